@@ -0,0 +1,46 @@
+package com.blog.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordBenchmark {
+
+  private static final String PASSWORD = "newUserPassword";
+
+  @Param({"10", "12", "14"})
+  public int strength;
+
+  private BCryptPasswordEncoder encoder;
+
+  private String encodedPassword;
+
+  @Setup
+  public void setUp() {
+
+    encoder = new BCryptPasswordEncoder(strength);
+    encodedPassword = encoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public String encode() {
+
+    return encoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public boolean matches() {
+
+    return encoder.matches(PASSWORD, encodedPassword);
+  }
+}
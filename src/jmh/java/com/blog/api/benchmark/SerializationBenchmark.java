@@ -0,0 +1,78 @@
+package com.blog.api.benchmark;
+
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.dto.UserPageDto;
+import com.blog.api.dto.UserResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"0", "10", "100", "1000"})
+  public int posts;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private UserResponseDto user;
+
+  private UserPageDto page;
+
+  @Setup
+  public void setUp() {
+
+    user = newUser(1);
+
+    List<UserResponseDto> users = new ArrayList<>(PAGE_SIZE);
+
+    for (int id = 1; id <= PAGE_SIZE; id++) {
+      users.add(newUser(id));
+    }
+
+    page = new UserPageDto(users, PAGE_SIZE);
+  }
+
+  @Benchmark
+  public byte[] userWithPosts() throws JsonProcessingException {
+
+    return objectMapper.writeValueAsBytes(user);
+  }
+
+  @Benchmark
+  public byte[] pageWithPosts() throws JsonProcessingException {
+
+    return objectMapper.writeValueAsBytes(page);
+  }
+
+  private UserResponseDto newUser(int id) {
+
+    UserResponseDto newUser = new UserResponseDto(id, "user" + id, "user" + id + "@email.com", 0);
+    List<PostResponseDto> userPosts = new ArrayList<>(posts);
+
+    for (int post = 1; post <= posts; post++) {
+      userPosts.add(new PostResponseDto(post, id, "Post " + post, "image" + post + ".png",
+          "Descrição do post " + post, "Comentários do post " + post, LocalDateTime.of(2022, 11, 14, 0, 0)));
+    }
+
+    newUser.setPosts(userPosts);
+
+    return newUser;
+  }
+}
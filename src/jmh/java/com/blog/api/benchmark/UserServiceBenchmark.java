@@ -0,0 +1,142 @@
+package com.blog.api.benchmark;
+
+import com.blog.api.ApiApplication;
+import com.blog.api.cache.UserCache;
+import com.blog.api.dto.UserPageDto;
+import com.blog.api.dto.UserResponseDto;
+import com.blog.api.repository.UserRepository;
+import com.blog.api.service.ImportService;
+import com.blog.api.service.UserService;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserServiceBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"1000"})
+  public int users;
+
+  @Param({"10"})
+  public int postsPerUser;
+
+  private ConfigurableApplicationContext context;
+
+  private UserService userService;
+
+  private UserCache userCache;
+
+  private int[] ids;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+
+    context = new SpringApplicationBuilder(ApiApplication.class)
+        .web(WebApplicationType.NONE)
+        .run(
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--blog-api.bcrypt.min-strength=4",
+            "--blog-api.bcrypt.max-strength=4",
+            "--logging.level.root=warn",
+            "--logging.level.com.blog.api=warn");
+
+    userService = context.getBean(UserService.class);
+    userCache = context.getBean(UserCache.class);
+
+    context.getBean(ImportService.class).importUsers(new ByteArrayInputStream(
+        seed().getBytes(StandardCharsets.UTF_8)));
+
+    ids = context.getBean(UserRepository.class).findPageAfter(0, PageRequest.of(0, users))
+        .stream().mapToInt(UserResponseDto::getId).toArray();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    context.close();
+  }
+
+  @Benchmark
+  public UserResponseDto userByIdCached() {
+
+    return userService.userById(randomId());
+  }
+
+  @Benchmark
+  public UserResponseDto userByIdUncached() {
+
+    int id = randomId();
+
+    userCache.invalidate(id);
+
+    return userService.userById(id);
+  }
+
+  @Benchmark
+  public UserResponseDto userDetailsWithPosts() {
+
+    return userService.userDetails(randomId(), true);
+  }
+
+  @Benchmark
+  public UserPageDto listUsers() {
+
+    return userService.listUsers(randomId() - 1, PAGE_SIZE, false);
+  }
+
+  @Benchmark
+  public UserPageDto listUsersWithPosts() {
+
+    return userService.listUsers(randomId() - 1, PAGE_SIZE, true);
+  }
+
+  private int randomId() {
+
+    return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+  }
+
+  private String seed() {
+
+    StringBuilder lines = new StringBuilder();
+
+    for (int user = 1; user <= users; user++) {
+      lines.append("{\"username\":\"user").append(user)
+          .append("\",\"email\":\"user").append(user).append("@email.com\"")
+          .append(",\"password\":\"$2a$04$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenc\"")
+          .append(",\"posts\":[");
+
+      for (int post = 1; post <= postsPerUser; post++) {
+        lines.append(post > 1 ? "," : "")
+            .append("{\"title\":\"Post ").append(post)
+            .append("\",\"description\":\"Descrição do post ").append(post)
+            .append("\",\"postDate\":\"2022-11-14\"}");
+      }
+
+      lines.append("]}\n");
+    }
+
+    return lines.toString();
+  }
+}
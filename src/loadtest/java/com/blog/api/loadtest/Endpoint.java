@@ -0,0 +1,19 @@
+package com.blog.api.loadtest;
+
+public enum Endpoint {
+
+  READ("GET /blog-api/{id}"),
+  LIST("GET /blog-api?after={id}"),
+  VALIDATE("GET /blog-api/validate"),
+  WRITE("PATCH /blog-api/{id}");
+
+  private final String description;
+
+  Endpoint(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+}
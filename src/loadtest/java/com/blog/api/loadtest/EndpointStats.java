@@ -0,0 +1,54 @@
+package com.blog.api.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class EndpointStats {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+  private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+  private final AtomicLong errors = new AtomicLong();
+
+  public void record(long latencyNanos, boolean success) {
+
+    latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+        HIGHEST_TRACKABLE_MICROS));
+
+    if (!success) {
+      errors.incrementAndGet();
+    }
+  }
+
+  public void add(EndpointStats other) {
+
+    latencies.add(other.latencies);
+    errors.addAndGet(other.errors.get());
+  }
+
+  public void reset() {
+
+    latencies.reset();
+    errors.set(0);
+  }
+
+  public Histogram getLatencies() {
+    return latencies;
+  }
+
+  public long getRequests() {
+    return latencies.getTotalCount();
+  }
+
+  public long getErrors() {
+    return errors.get();
+  }
+
+  public double percentileMillis(double percentile) {
+
+    return latencies.getValueAtPercentile(percentile) / 1000.0;
+  }
+}
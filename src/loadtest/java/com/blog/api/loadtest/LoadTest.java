@@ -0,0 +1,260 @@
+package com.blog.api.loadtest;
+
+import com.blog.api.ApiApplication;
+import com.blog.api.dto.TokenDto;
+import com.blog.api.dto.UserResponseDto;
+import com.blog.api.repository.UserRepository;
+import com.blog.api.service.ImportService;
+import com.blog.api.service.PasswordService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+public class LoadTest {
+
+  private static final String PASSWORD = "loadtestPassword";
+
+  private static final int TOKENS = 20;
+
+  public static void main(String[] args) throws Exception {
+
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    Map<ThreadMode, EndpointStats> totals = new EnumMap<>(ThreadMode.class);
+    boolean passed = true;
+
+    for (ThreadMode mode : config.getThreadModes()) {
+      EndpointStats total = run(config, mode);
+
+      totals.put(mode, total);
+      passed &= gate(total, config);
+    }
+
+    if (totals.size() > 1) {
+      compare(totals, config);
+    }
+
+    System.exit(passed ? 0 : 1);
+  }
+
+  private static EndpointStats run(LoadTestConfig config, ThreadMode mode) throws Exception {
+
+    String modeName = mode.name().toLowerCase(Locale.ROOT);
+    Map<String, String> properties = new LinkedHashMap<>();
+
+    properties.put("server.port", "0");
+    properties.put("spring.datasource.url",
+        "jdbc:h2:mem:loadtest-" + modeName + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+    properties.put("spring.datasource.username", "sa");
+    properties.put("spring.datasource.password", "");
+    properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+    properties.put("logging.level.com.blog.api", "warn");
+    properties.put("blog-api.virtual-threads.enabled", String.valueOf(mode.isVirtualThreads()));
+    properties.putAll(config.getAppProperties());
+
+    System.out.printf(Locale.ROOT, "%n== Threads %s ==%n", modeName);
+
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+        .run(properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new));
+
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors());
+
+    try {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      String baseUrl = "http://localhost:" + port + "/blog-api";
+      HttpClient client = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(Duration.ofSeconds(5))
+          .executor(executor)
+          .build();
+
+      int[] ids = seed(context, config);
+      List<String> tokens = login(client, baseUrl, context.getBean(ObjectMapper.class),
+          context.getBean(UserRepository.class));
+
+      OpenModelGenerator generator = new OpenModelGenerator(client, baseUrl, ids, tokens,
+          config.getMix(), config.getMaxInFlight());
+
+      System.out.printf(Locale.ROOT, "Aquecimento: %d s a %.0f req/s%n",
+          config.getWarmupSeconds(), config.getRate());
+      generator.run(config.getRate(), config.getWarmupSeconds());
+      generator.reset();
+
+      System.out.printf(Locale.ROOT, "Medição: %d s a %.0f req/s, mix %s%n",
+          config.getDurationSeconds(), config.getRate(), config.getMix());
+      generator.run(config.getRate(), config.getDurationSeconds());
+
+      return report(generator.getStats(), config,
+          Paths.get(config.getOutputDir()).resolve(modeName));
+    } finally {
+      executor.shutdownNow();
+      context.close();
+    }
+  }
+
+  private static int[] seed(ConfigurableApplicationContext context, LoadTestConfig config) {
+
+    String password = context.getBean(PasswordService.class).encode(PASSWORD);
+    StringBuilder lines = new StringBuilder();
+
+    for (int user = 1; user <= config.getUsers(); user++) {
+      lines.append("{\"username\":\"user").append(user)
+          .append("\",\"email\":\"user").append(user).append("@email.com\"")
+          .append(",\"password\":\"").append(password).append("\",\"posts\":[");
+
+      for (int post = 1; post <= config.getPostsPerUser(); post++) {
+        lines.append(post > 1 ? "," : "")
+            .append("{\"title\":\"Post ").append(post)
+            .append("\",\"postDate\":\"2022-11-14\"}");
+      }
+
+      lines.append("]}\n");
+    }
+
+    context.getBean(ImportService.class).importUsers(
+        new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8)));
+
+    return context.getBean(UserRepository.class)
+        .findPageAfter(0, PageRequest.of(0, config.getUsers()))
+        .stream().mapToInt(UserResponseDto::getId).toArray();
+  }
+
+  private static List<String> login(HttpClient client, String baseUrl, ObjectMapper objectMapper,
+                                    UserRepository userRepository)
+      throws IOException, InterruptedException {
+
+    List<String> tokens = new ArrayList<>(TOKENS);
+
+    for (UserResponseDto user : userRepository.findPageAfter(0, PageRequest.of(0, TOKENS))) {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + user.getEmail()
+              + "\",\"password\":\"" + PASSWORD + "\"}"))
+          .build();
+      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("Falha no login de " + user.getEmail() + ": "
+            + response.body());
+      }
+
+      tokens.add(objectMapper.readValue(response.body(), TokenDto.class).getToken());
+    }
+
+    return tokens;
+  }
+
+  private static EndpointStats report(Map<Endpoint, EndpointStats> stats,
+                                      LoadTestConfig config, Path outputDir) throws IOException {
+
+    Files.createDirectories(outputDir);
+
+    EndpointStats total = new EndpointStats();
+    PrintStream out = System.out;
+
+    out.printf(Locale.ROOT, "%n%-24s %9s %7s %10s %9s %9s %9s %9s%n", "Endpoint", "Requests",
+        "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+
+    for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+      print(out, entry.getKey().getDescription(), entry.getValue(), config);
+      write(outputDir.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm"),
+          entry.getValue());
+      total.add(entry.getValue());
+    }
+
+    print(out, "Total", total, config);
+    write(outputDir.resolve("total.hgrm"), total);
+
+    out.println("Histogramas em " + outputDir.toAbsolutePath());
+
+    return total;
+  }
+
+  private static boolean gate(EndpointStats total, LoadTestConfig config) {
+
+    double p99 = total.percentileMillis(99.0);
+    double errorRate = errorRate(total);
+    boolean passed = p99 <= config.getMaxP99Millis() && errorRate <= config.getMaxErrorRate();
+
+    System.out.printf(Locale.ROOT, "p99 %.2f ms (limite %.2f), erros %.4f (limite %.4f): %s%n",
+        p99, config.getMaxP99Millis(), errorRate, config.getMaxErrorRate(),
+        passed ? "APROVADO" : "REPROVADO");
+
+    return passed;
+  }
+
+  // A vazão compara só as respostas bem-sucedidas: com carga aberta o modo saturado acumula
+  // erros e latência, não menos requisições enviadas.
+  private static void compare(Map<ThreadMode, EndpointStats> totals, LoadTestConfig config) {
+
+    PrintStream out = System.out;
+    double baseline = -1;
+
+    out.printf(Locale.ROOT, "%n%-10s %12s %9s %9s %9s %9s %10s%n", "Threads", "Sucesso/s",
+        "Erros", "p50 ms", "p99 ms", "p99.9 ms", "Vazão");
+
+    for (Map.Entry<ThreadMode, EndpointStats> entry : totals.entrySet()) {
+      EndpointStats total = entry.getValue();
+      double throughput = (total.getRequests() - total.getErrors())
+          / (double) config.getDurationSeconds();
+
+      if (baseline < 0) {
+        baseline = throughput;
+      }
+
+      out.printf(Locale.ROOT, "%-10s %12.1f %9.4f %9.2f %9.2f %9.2f %+9.1f%%%n",
+          entry.getKey().name().toLowerCase(Locale.ROOT), throughput, errorRate(total),
+          total.percentileMillis(50.0), total.percentileMillis(99.0),
+          total.percentileMillis(99.9),
+          (baseline > 0) ? (throughput / baseline - 1.0) * 100.0 : 0.0);
+    }
+  }
+
+  private static double errorRate(EndpointStats total) {
+
+    return (total.getRequests() == 0) ? 1.0
+        : (double) total.getErrors() / total.getRequests();
+  }
+
+  private static void print(PrintStream out, String name, EndpointStats stats,
+                            LoadTestConfig config) {
+
+    out.printf(Locale.ROOT, "%-24s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name,
+        stats.getRequests(), stats.getErrors(),
+        stats.getRequests() / (double) config.getDurationSeconds(),
+        stats.percentileMillis(50.0), stats.percentileMillis(99.0),
+        stats.percentileMillis(99.9), stats.getLatencies().getMaxValue() / 1000.0);
+  }
+
+  private static void write(Path file, EndpointStats stats) throws IOException {
+
+    try (PrintStream out = new PrintStream(Files.newOutputStream(file), false,
+        StandardCharsets.UTF_8.name())) {
+      stats.getLatencies().outputPercentileDistribution(out, 1000.0);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.blog.api.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class LoadTestConfig {
+
+  private final double rate;
+  private final int warmupSeconds;
+  private final int durationSeconds;
+  private final int users;
+  private final int postsPerUser;
+  private final int maxInFlight;
+  private final Map<Endpoint, Integer> mix;
+  private final double maxP99Millis;
+  private final double maxErrorRate;
+  private final String outputDir;
+  private final List<ThreadMode> threadModes;
+  private final Map<String, String> appProperties;
+
+  private LoadTestConfig(double rate, int warmupSeconds, int durationSeconds, int users,
+                         int postsPerUser, int maxInFlight, Map<Endpoint, Integer> mix,
+                         double maxP99Millis, double maxErrorRate, String outputDir,
+                         List<ThreadMode> threadModes, Map<String, String> appProperties) {
+    this.rate = rate;
+    this.warmupSeconds = warmupSeconds;
+    this.durationSeconds = durationSeconds;
+    this.users = users;
+    this.postsPerUser = postsPerUser;
+    this.maxInFlight = maxInFlight;
+    this.mix = mix;
+    this.maxP99Millis = maxP99Millis;
+    this.maxErrorRate = maxErrorRate;
+    this.outputDir = outputDir;
+    this.threadModes = threadModes;
+    this.appProperties = appProperties;
+  }
+
+  public static LoadTestConfig fromSystemProperties() {
+
+    return new LoadTestConfig(
+        Double.parseDouble(property("rate", "200")),
+        Integer.parseInt(property("warmup-seconds", "10")),
+        Integer.parseInt(property("duration-seconds", "60")),
+        Integer.parseInt(property("users", "1000")),
+        Integer.parseInt(property("posts-per-user", "5")),
+        Integer.parseInt(property("max-in-flight", "2000")),
+        parseMix(property("mix", "read=80,validate=15,write=5")),
+        Double.parseDouble(property("max-p99-ms", "500")),
+        Double.parseDouble(property("max-error-rate", "0.01")),
+        property("output-dir", "build/loadtest"),
+        parseThreadModes(property("thread-modes", "platform")),
+        appProperties());
+  }
+
+  static Map<Endpoint, Integer> parseMix(String mix) {
+
+    Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split("=");
+
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Entrada inválida no mix: " + entry);
+      }
+
+      int weight = Integer.parseInt(parts[1].trim());
+
+      if (weight > 0) {
+        weights.put(Endpoint.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+      }
+    }
+
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("O mix deve ter ao menos um endpoint com peso positivo.");
+    }
+
+    return weights;
+  }
+
+  static List<ThreadMode> parseThreadModes(String modes) {
+
+    List<ThreadMode> parsed = new ArrayList<>();
+
+    for (String mode : modes.split(",")) {
+      ThreadMode threadMode = ThreadMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+
+      if (!parsed.contains(threadMode)) {
+        parsed.add(threadMode);
+      }
+    }
+
+    return parsed;
+  }
+
+  // loadtest.app.<propriedade> é repassada à aplicação (ex.: loadtest.app.spring.datasource.url).
+  private static Map<String, String> appProperties() {
+
+    Map<String, String> properties = new LinkedHashMap<>();
+
+    System.getProperties().stringPropertyNames().stream()
+        .filter(name -> name.startsWith("loadtest.app."))
+        .sorted()
+        .forEach(name -> properties.put(name.substring("loadtest.app.".length()),
+            System.getProperty(name)));
+
+    return properties;
+  }
+
+  private static String property(String name, String defaultValue) {
+
+    return System.getProperty("loadtest." + name, defaultValue);
+  }
+
+  public double getRate() {
+    return rate;
+  }
+
+  public int getWarmupSeconds() {
+    return warmupSeconds;
+  }
+
+  public int getDurationSeconds() {
+    return durationSeconds;
+  }
+
+  public int getUsers() {
+    return users;
+  }
+
+  public int getPostsPerUser() {
+    return postsPerUser;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public Map<Endpoint, Integer> getMix() {
+    return mix;
+  }
+
+  public double getMaxP99Millis() {
+    return maxP99Millis;
+  }
+
+  public double getMaxErrorRate() {
+    return maxErrorRate;
+  }
+
+  public String getOutputDir() {
+    return outputDir;
+  }
+
+  public List<ThreadMode> getThreadModes() {
+    return threadModes;
+  }
+
+  public Map<String, String> getAppProperties() {
+    return appProperties;
+  }
+}
@@ -0,0 +1,140 @@
+package com.blog.api.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class OpenModelGenerator {
+
+  private final HttpClient client;
+
+  private final String baseUrl;
+
+  private final int[] ids;
+
+  private final List<String> tokens;
+
+  private final Endpoint[] endpoints;
+
+  private final int[] cumulativeWeights;
+
+  private final Semaphore inFlight;
+
+  private final int maxInFlight;
+
+  private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+  private final AtomicLong writes = new AtomicLong();
+
+  public OpenModelGenerator(HttpClient client, String baseUrl, int[] ids, List<String> tokens,
+                            Map<Endpoint, Integer> mix, int maxInFlight) {
+    this.client = client;
+    this.baseUrl = baseUrl;
+    this.ids = ids;
+    this.tokens = tokens;
+    this.endpoints = mix.keySet().toArray(new Endpoint[0]);
+    this.cumulativeWeights = new int[endpoints.length];
+    this.inFlight = new Semaphore(maxInFlight);
+    this.maxInFlight = maxInFlight;
+
+    int total = 0;
+
+    for (int i = 0; i < endpoints.length; i++) {
+      total += mix.get(endpoints[i]);
+      cumulativeWeights[i] = total;
+      stats.put(endpoints[i], new EndpointStats());
+    }
+  }
+
+  public void run(double rate, long durationSeconds) {
+
+    long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+    long start = System.nanoTime();
+    long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+    for (long i = 0; ; i++) {
+      // Latência contada a partir do horário planejado, não do envio (coordinated omission)
+      long intended = start + i * intervalNanos;
+
+      if (intended >= end) {
+        break;
+      }
+
+      long wait = intended - System.nanoTime();
+
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+
+      Endpoint endpoint = nextEndpoint();
+      EndpointStats endpointStats = stats.get(endpoint);
+
+      inFlight.acquireUninterruptibly();
+
+      client.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, err) -> {
+            endpointStats.record(System.nanoTime() - intended,
+                err == null && response.statusCode() < 400);
+            inFlight.release();
+          });
+    }
+
+    inFlight.acquireUninterruptibly(maxInFlight);
+    inFlight.release(maxInFlight);
+  }
+
+  public Map<Endpoint, EndpointStats> getStats() {
+    return stats;
+  }
+
+  public void reset() {
+
+    stats.values().forEach(EndpointStats::reset);
+  }
+
+  private Endpoint nextEndpoint() {
+
+    int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (pick < cumulativeWeights[i]) {
+        return endpoints[i];
+      }
+    }
+
+    return endpoints[endpoints.length - 1];
+  }
+
+  private HttpRequest request(Endpoint endpoint) {
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int id = ids[random.nextInt(ids.length)];
+
+    switch (endpoint) {
+      case LIST:
+        return HttpRequest.newBuilder(URI.create(baseUrl + "?after=" + (id - 1) + "&limit=50"))
+            .GET().build();
+      case VALIDATE:
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/validate"))
+            .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+            .GET().build();
+      case WRITE:
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                "{\"username\":\"user" + id + "-" + writes.incrementAndGet() + "\"}"))
+            .build();
+      default:
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET().build();
+    }
+  }
+}
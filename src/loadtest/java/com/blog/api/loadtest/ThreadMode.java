@@ -0,0 +1,17 @@
+package com.blog.api.loadtest;
+
+public enum ThreadMode {
+
+  PLATFORM(false),
+  VIRTUAL(true);
+
+  private final boolean virtualThreads;
+
+  ThreadMode(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+}
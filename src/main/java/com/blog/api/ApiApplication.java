@@ -1,24 +1,62 @@
 package com.blog.api;
 
+import com.blog.api.cache.SingleFlight;
+import com.blog.api.commons.BCryptCalibrator;
+import com.blog.api.dto.UserResponseDto;
+import com.blog.api.model.User;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-@SpringBootApplication(exclude = {SecurityAutoConfiguration.class})
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class,
+    R2dbcTransactionManagerAutoConfiguration.class})
+@EnableScheduling
 public class ApiApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(ApiApplication.class, args);
 	}
 
+  // No perfil fast-startup (inicialização preguiçosa) as migrações ainda precisam rodar na subida.
   @Bean
-  public PasswordEncoder getPasswordEncoder() {
+  public static LazyInitializationExcludeFilter eagerDatabaseInitialization() {
 
-    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class);
+  }
+
+  @Bean
+  public PasswordEncoder getPasswordEncoder(BCryptCalibrator calibrator) {
+
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(calibrator.getStrength());
 
     return encoder;
   }
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry registry) {
+
+    return new TimedAspect(registry);
+  }
+
+  @Bean
+  public SingleFlight<Integer, Optional<UserResponseDto>> userLoads(MeterRegistry registry) {
+
+    return new SingleFlight<>(registry, "users");
+  }
+
+  @Bean
+  public SingleFlight<String, Optional<User>> emailLoads(MeterRegistry registry) {
+
+    return new SingleFlight<>(registry, "emails");
+  }
 }
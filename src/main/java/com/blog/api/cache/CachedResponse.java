@@ -0,0 +1,32 @@
+package com.blog.api.cache;
+
+public class CachedResponse {
+
+  private final long generation;
+  private final byte[] body;
+  private final byte[] gzippedBody;
+  private final String etag;
+
+  public CachedResponse(long generation, byte[] body, byte[] gzippedBody, String etag) {
+    this.generation = generation;
+    this.body = body;
+    this.gzippedBody = gzippedBody;
+    this.etag = etag;
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  public byte[] getBody() {
+    return body;
+  }
+
+  public byte[] getGzippedBody() {
+    return gzippedBody;
+  }
+
+  public String getEtag() {
+    return etag;
+  }
+}
@@ -0,0 +1,304 @@
+package com.blog.api.cache;
+
+import com.blog.api.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Lazy(false)
+public class EmailBloomFilter {
+
+  private final UserRepository userRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final long expectedInsertions;
+
+  private final double falsePositiveRate;
+
+  private final double maxStaleRatio;
+
+  private volatile Bits bits;
+
+  private volatile Bits building;
+
+  private final AtomicLong staleEntries = new AtomicLong();
+
+  private final Counter definiteMisses;
+
+  private final Counter possibleHits;
+
+  private final Counter falsePositives;
+
+  private final Timer rebuilds;
+
+  private final Logger logger = LogManager.getLogger(EmailBloomFilter.class);
+
+  public EmailBloomFilter(UserRepository userRepository,
+                          PlatformTransactionManager transactionManager, MeterRegistry registry,
+                          @Value("${blog-api.email-filter.expected-insertions:1000000}")
+                          long expectedInsertions,
+                          @Value("${blog-api.email-filter.false-positive-rate:0.01}")
+                          double falsePositiveRate,
+                          @Value("${blog-api.email-filter.max-stale-ratio:0.2}")
+                          double maxStaleRatio) {
+
+    this.userRepository = userRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.maxStaleRatio = maxStaleRatio;
+
+    this.definiteMisses = Counter.builder("email.filter.checks").tag("result", "miss")
+        .register(registry);
+    this.possibleHits = Counter.builder("email.filter.checks").tag("result", "hit")
+        .register(registry);
+    this.falsePositives = Counter.builder("email.filter.false.positives").register(registry);
+    this.rebuilds = Timer.builder("email.filter.rebuild").register(registry);
+
+    Gauge.builder("email.filter.insertions", this, filter -> filter.insertions())
+        .register(registry);
+    Gauge.builder("email.filter.stale.entries", staleEntries, AtomicLong::get)
+        .register(registry);
+    Gauge.builder("email.filter.expected.fpp", this, EmailBloomFilter::expectedFalsePositiveRate)
+        .register(registry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+
+    rebuild();
+  }
+
+  @Scheduled(fixedDelayString = "${blog-api.email-filter.check-interval-ms:60000}")
+  public void rebuildIfStale() {
+
+    Bits current = bits;
+
+    if (current != null && current.insertions.get() > 0
+        && (double) staleEntries.get() / current.insertions.get() > maxStaleRatio) {
+      rebuild();
+    }
+  }
+
+  public synchronized void rebuild() {
+
+    logger.info("Reconstruindo o filtro de emails cadastrados.");
+
+    long start = System.nanoTime();
+    long capacity = Math.max(expectedInsertions, userRepository.count() * 2);
+    Bits next = new Bits(capacity, falsePositiveRate);
+
+    building = next;
+    staleEntries.set(0);
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+          emails.forEach(email -> next.put(normalize(email)));
+        }
+      });
+
+      bits = next;
+      rebuilds.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+      logger.info("Filtro de emails reconstruído com {} entradas.", next.insertions.get());
+    } catch (RuntimeException err) {
+      logger.error("Erro inesperado ao reconstruir o filtro de emails.");
+    } finally {
+      building = null;
+    }
+  }
+
+  public boolean mightContain(String email) {
+
+    Bits current = bits;
+
+    if (current == null || email == null) {
+      return true;
+    }
+
+    boolean hit = current.mightContain(normalize(email));
+
+    (hit ? possibleHits : definiteMisses).increment();
+
+    return hit;
+  }
+
+  public void put(String email) {
+
+    if (email == null) {
+      return;
+    }
+
+    String key = normalize(email);
+
+    add(key);
+
+    // Uma reconstrução iniciada antes do commit pode ler um snapshot sem este email; repetir
+    // após o commit garante que ele chegue também ao filtro em construção.
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          add(key);
+        }
+      });
+    }
+  }
+
+  private void add(String key) {
+
+    Bits current = bits;
+    Bits next = building;
+
+    if (current != null) {
+      current.put(key);
+    }
+
+    if (next != null) {
+      next.put(key);
+    }
+  }
+
+  public void remove(String email) {
+
+    if (email != null && bits != null) {
+      staleEntries.incrementAndGet();
+    }
+  }
+
+  public void recordFalsePositive() {
+
+    falsePositives.increment();
+  }
+
+  public long insertions() {
+
+    Bits current = bits;
+
+    return (current == null) ? 0 : current.insertions.get();
+  }
+
+  public double expectedFalsePositiveRate() {
+
+    Bits current = bits;
+
+    return (current == null) ? 1.0 : current.expectedFalsePositiveRate();
+  }
+
+  // Equivalente à collation do índice de email: ignora acentos e maiúsculas.
+  public static String normalize(String email) {
+
+    String decomposed = Normalizer.normalize(email, Normalizer.Form.NFD)
+        .replaceAll("\\p{M}", "");
+
+    return decomposed.toLowerCase(Locale.ROOT).stripTrailing();
+  }
+
+  private static final class Bits {
+
+    private final AtomicLongArray words;
+
+    private final long size;
+
+    private final int hashes;
+
+    private final AtomicLong insertions = new AtomicLong();
+
+    private Bits(long capacity, double falsePositiveRate) {
+
+      long bitCount = (long) Math.ceil(-capacity * Math.log(falsePositiveRate)
+          / (Math.log(2) * Math.log(2)));
+
+      this.words = new AtomicLongArray((int) Math.max(1, (bitCount + 63) / 64));
+      this.size = (long) words.length() * 64;
+      this.hashes = (int) Math.max(1, Math.round((double) size / capacity * Math.log(2)));
+    }
+
+    private void put(String key) {
+
+      long[] hash = hash(key);
+      boolean changed = false;
+
+      for (int i = 0; i < hashes; i++) {
+        long index = Math.floorMod(hash[0] + i * hash[1], size);
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long previous = words.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+
+        changed |= (previous & mask) == 0;
+      }
+
+      if (changed) {
+        insertions.incrementAndGet();
+      }
+    }
+
+    private boolean mightContain(String key) {
+
+      long[] hash = hash(key);
+
+      for (int i = 0; i < hashes; i++) {
+        long index = Math.floorMod(hash[0] + i * hash[1], size);
+
+        if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private double expectedFalsePositiveRate() {
+
+      return Math.pow(1 - Math.exp(-(double) hashes * insertions.get() / size), hashes);
+    }
+
+    private static long[] hash(String key) {
+
+      long h1 = 0xcbf29ce484222325L;
+      long h2 = 0x84222325cbf29ce4L;
+
+      for (byte value : key.getBytes(StandardCharsets.UTF_8)) {
+        h1 = (h1 ^ value) * 0x100000001b3L;
+        h2 = (h2 + value) * 0xff51afd7ed558ccdL;
+      }
+
+      return new long[] {mix(h1), mix(h2) | 1};
+    }
+
+    private static long mix(long value) {
+
+      value ^= value >>> 33;
+      value *= 0xff51afd7ed558ccdL;
+      value ^= value >>> 33;
+      value *= 0xc4ceb9fe1a85ec53L;
+      value ^= value >>> 33;
+
+      return value;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.blog.api.cache;
+
+import com.blog.api.commons.CustomUnexpectedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+@Component
+public class ResponseCache {
+
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Cache<String, CachedResponse> cache;
+
+  private final ObjectMapper objectMapper;
+
+  private final boolean gzip;
+
+  private final int gzipMinBytes;
+
+  public ResponseCache(ObjectMapper objectMapper, MeterRegistry registry,
+                       @Value("${blog-api.response-cache.maximum-bytes:67108864}")
+                       long maximumBytes,
+                       @Value("${blog-api.response-cache.gzip:true}") boolean gzip,
+                       @Value("${blog-api.response-cache.gzip-min-bytes:1024}")
+                       int gzipMinBytes) {
+
+    this.objectMapper = objectMapper;
+    this.gzip = gzip;
+    this.gzipMinBytes = gzipMinBytes;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maximumBytes)
+        .<String, CachedResponse>weigher((key, response) -> response.getBody().length
+            + (response.getGzippedBody() == null ? 0 : response.getGzippedBody().length))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(registry, cache, "responses");
+    Gauge.builder("response.cache.generation", generation, AtomicLong::get).register(registry);
+  }
+
+  public CachedResponse get(String key, Supplier<?> loader) {
+
+    return get(key, loader, null);
+  }
+
+  public <T> CachedResponse get(String key, Supplier<T> loader, Function<T, String> etag) {
+
+    long current = generation.get();
+    CachedResponse cached = cache.getIfPresent(key);
+
+    if (cached != null && cached.getGeneration() == current) {
+      return cached;
+    }
+
+    T value = loader.get();
+    CachedResponse fresh = encode(current, value, (etag == null) ? null : etag.apply(value));
+
+    if (generation.get() == current) {
+      cache.put(key, fresh);
+    }
+
+    return fresh;
+  }
+
+  public CachedResponse peek(String key) {
+
+    CachedResponse cached = cache.getIfPresent(key);
+
+    return (cached != null && cached.getGeneration() == generation.get()) ? cached : null;
+  }
+
+  public void invalidate() {
+
+    generation.incrementAndGet();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          generation.incrementAndGet();
+        }
+      });
+    }
+  }
+
+  private CachedResponse encode(long generation, Object value, String etag) {
+
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(value);
+
+      return new CachedResponse(generation, body,
+          (gzip && body.length >= gzipMinBytes) ? gzip(body) : null,
+          (etag == null) ? "\"" + DigestUtils.md5DigestAsHex(body) + "\"" : etag);
+    } catch (IOException err) {
+      throw new CustomUnexpectedException("Erro inesperado ao serializar a resposta.");
+    }
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+
+    try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+      gzipOut.write(body);
+    }
+
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,80 @@
+package com.blog.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  private final Counter executed;
+
+  private final Counter collapsed;
+
+  public SingleFlight(MeterRegistry registry, String name) {
+
+    this.executed = Counter.builder("singleflight.calls")
+        .tag("name", name)
+        .tag("result", "executed")
+        .register(registry);
+
+    this.collapsed = Counter.builder("singleflight.calls")
+        .tag("name", name)
+        .tag("result", "collapsed")
+        .register(registry);
+
+    Gauge.builder("singleflight.in.flight", inFlight, ConcurrentHashMap::size)
+        .tag("name", name)
+        .register(registry);
+  }
+
+  public V load(K key, Supplier<V> loader) {
+
+    if (key == null) {
+      return loader.get();
+    }
+
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+
+    if (leader != null) {
+      collapsed.increment();
+      return await(leader);
+    }
+
+    executed.increment();
+
+    try {
+      V value = loader.get();
+      call.complete(value);
+      return value;
+    } catch (RuntimeException | Error err) {
+      call.completeExceptionally(err);
+      throw err;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  private V await(CompletableFuture<V> call) {
+
+    try {
+      return call.join();
+    } catch (CompletionException err) {
+      if (err.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) err.getCause();
+      }
+
+      if (err.getCause() instanceof Error) {
+        throw (Error) err.getCause();
+      }
+
+      throw err;
+    }
+  }
+}
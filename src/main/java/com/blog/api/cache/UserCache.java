@@ -0,0 +1,103 @@
+package com.blog.api.cache;
+
+import com.blog.api.dto.UserResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Guarda apenas os campos públicos do usuário (sem senha nem coleção lazy) em snapshots imutáveis.
+@Component
+public class UserCache {
+
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Cache<Integer, Snapshot> cache;
+
+  public UserCache(MeterRegistry registry,
+                   @Value("${blog-api.user-cache.maximum-size:10000}") long maximumSize,
+                   @Value("${blog-api.user-cache.expire-after-write-seconds:300}")
+                   long expireAfterWriteSeconds) {
+
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(registry, cache, "users");
+  }
+
+  public Optional<UserResponseDto> get(Integer id) {
+
+    Snapshot snapshot = cache.getIfPresent(id);
+
+    return (snapshot == null) ? Optional.empty() : Optional.of(snapshot.toDto());
+  }
+
+  // Lida antes da consulta ao banco e repassada ao put.
+  public long generation() {
+
+    return generation.get();
+  }
+
+  // Uma carga que leu o registro antes de uma atualização concorrente não pode gravá-lo depois
+  // da invalidação dessa atualização.
+  public void put(UserResponseDto user, long loadedAt) {
+
+    if (generation.get() != loadedAt) {
+      return;
+    }
+
+    cache.put(user.getId(), new Snapshot(user));
+
+    if (generation.get() != loadedAt) {
+      cache.invalidate(user.getId());
+    }
+  }
+
+  public void invalidate(Integer id) {
+
+    generation.incrementAndGet();
+    cache.invalidate(id);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          generation.incrementAndGet();
+          cache.invalidate(id);
+        }
+      });
+    }
+  }
+
+  private static final class Snapshot {
+
+    private final Integer id;
+
+    private final String username;
+
+    private final String email;
+
+    private final Integer version;
+
+    private Snapshot(UserResponseDto user) {
+      this.id = user.getId();
+      this.username = user.getUsername();
+      this.email = user.getEmail();
+      this.version = user.getVersion();
+    }
+
+    private UserResponseDto toDto() {
+      return new UserResponseDto(id, username, email, version);
+    }
+  }
+}
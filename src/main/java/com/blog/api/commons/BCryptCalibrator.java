@@ -0,0 +1,83 @@
+package com.blog.api.commons;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BCryptCalibrator {
+
+  private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+  private final int strength;
+
+  private final Logger logger = LogManager.getLogger(BCryptCalibrator.class);
+
+  public BCryptCalibrator(@Value("${blog-api.bcrypt.strength:0}") int fixedStrength,
+                          @Value("${blog-api.bcrypt.target-millis:250}") long targetMillis,
+                          @Value("${blog-api.bcrypt.min-strength:10}") int minStrength,
+                          @Value("${blog-api.bcrypt.max-strength:14}") int maxStrength) {
+
+    if (fixedStrength > 0) {
+      this.strength = fixedStrength;
+
+      logger.info("Custo do BCrypt fixado em {} (calibração desativada).", strength);
+      return;
+    }
+
+    int chosen = minStrength;
+
+    for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+      long elapsed = measure(candidate);
+
+      if (elapsed > targetMillis && candidate > minStrength) {
+        break;
+      }
+
+      chosen = candidate;
+
+      if (elapsed * 2 > targetMillis) {
+        break;
+      }
+    }
+
+    this.strength = chosen;
+
+    logger.info("Custo do BCrypt calibrado para {} (orçamento de {} ms).", strength,
+        targetMillis);
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  public static int cost(String encodedPassword) {
+
+    if (encodedPassword == null || encodedPassword.length() < 7
+        || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$') {
+      return -1;
+    }
+
+    try {
+      return Integer.parseInt(encodedPassword.substring(4, 6));
+    } catch (NumberFormatException err) {
+      return -1;
+    }
+  }
+
+  private long measure(int candidate) {
+
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(candidate);
+    long best = Long.MAX_VALUE;
+
+    for (int attempt = 0; attempt < 2; attempt++) {
+      long start = System.nanoTime();
+      encoder.encode(SAMPLE_PASSWORD);
+      best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    return best;
+  }
+}
@@ -0,0 +1,9 @@
+package com.blog.api.commons;
+
+public class CustomConflictException extends RuntimeException {
+
+  public CustomConflictException(String message) {
+
+    super(message);
+  }
+}
@@ -0,0 +1,9 @@
+package com.blog.api.commons;
+
+public class CustomServiceUnavailableException extends RuntimeException {
+
+  public CustomServiceUnavailableException(String message) {
+
+    super(message);
+  }
+}
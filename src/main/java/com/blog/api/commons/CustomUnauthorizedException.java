@@ -0,0 +1,9 @@
+package com.blog.api.commons;
+
+public class CustomUnauthorizedException extends RuntimeException {
+
+  public CustomUnauthorizedException(String message) {
+
+    super(message);
+  }
+}
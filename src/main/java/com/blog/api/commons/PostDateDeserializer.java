@@ -0,0 +1,40 @@
+package com.blog.api.commons;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+// Posts recebidos junto com o usuário (cadastro e importação) mantêm os formatos de data antigos.
+public class PostDateDeserializer extends StdDeserializer<LocalDateTime> {
+
+  public PostDateDeserializer() {
+    super(LocalDateTime.class);
+  }
+
+  @Override
+  public LocalDateTime deserialize(JsonParser parser, DeserializationContext context)
+      throws IOException {
+
+    if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+      return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser);
+    }
+
+    String text = parser.getText();
+
+    if (text.isBlank()) {
+      return null;
+    }
+
+    LocalDateTime postDate = PostDates.parse(text);
+
+    if (postDate == null) {
+      return (LocalDateTime) context.handleWeirdStringValue(LocalDateTime.class, text,
+          "Data do post inválida.");
+    }
+
+    return postDate;
+  }
+}
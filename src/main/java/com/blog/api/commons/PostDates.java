@@ -0,0 +1,56 @@
+package com.blog.api.commons;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.List;
+
+public final class PostDates {
+
+  private static final int MIN_YEAR = 1000;
+
+  private static final int MAX_YEAR = 9999;
+
+  private static final List<DateTimeFormatter> FORMATS = Arrays.asList(
+      formatter("uuuu-MM-dd[ HH:mm[:ss]]"),
+      formatter("uuuu-MM-dd'T'HH:mm[:ss][.SSS]"),
+      formatter("dd/MM/uuuu[ HH:mm[:ss]]"));
+
+  private PostDates() {}
+
+  // Aceita os formatos gravados como texto antes da coluna DATETIME; null quando não reconhece
+  // ou quando o ano fica fora do intervalo da coluna.
+  public static LocalDateTime parse(String value) {
+
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+
+    for (DateTimeFormatter format : FORMATS) {
+      try {
+        LocalDateTime postDate = LocalDateTime.parse(value.trim(), format);
+
+        return (postDate.getYear() < MIN_YEAR || postDate.getYear() > MAX_YEAR) ? null : postDate;
+      } catch (DateTimeParseException err) {
+        // Tenta o próximo formato.
+      }
+    }
+
+    return null;
+  }
+
+  private static DateTimeFormatter formatter(String pattern) {
+
+    return new DateTimeFormatterBuilder()
+        .appendPattern(pattern)
+        .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+        .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+        .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0)
+        .toFormatter()
+        .withResolverStyle(ResolverStyle.STRICT);
+  }
+}
@@ -0,0 +1,55 @@
+package com.blog.api.commons;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@Configuration
+@ConditionalOnProperty(name = "blog-api.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  private final Logger logger = LogManager.getLogger(VirtualThreadConfig.class);
+
+  // O projeto compila para Java 11; a API de threads virtuais (Java 21) é obtida por reflexão.
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService virtualThreadExecutor() {
+
+    try {
+      ExecutorService executor = (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+
+      logger.info("Requisições e tarefas assíncronas em threads virtuais (Java {}).",
+          Runtime.version().feature());
+
+      return executor;
+    } catch (NoSuchMethodException err) {
+      throw new IllegalStateException("Threads virtuais exigem Java 21 ou superior (atual: "
+          + Runtime.version() + ").");
+    } catch (ReflectiveOperationException err) {
+      throw new IllegalStateException("Erro ao criar o executor de threads virtuais.", err);
+    }
+  }
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandler(
+      ExecutorService virtualThreadExecutor) {
+
+    return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+  }
+
+  // Usado pelo Spring MVC nas respostas assíncronas (exportação em streaming).
+  @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+  public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+
+    return new TaskExecutorAdapter(virtualThreadExecutor);
+  }
+}
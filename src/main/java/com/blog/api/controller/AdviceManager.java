@@ -1,11 +1,16 @@
 package com.blog.api.controller;
 
 import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomConflictException;
 import com.blog.api.commons.CustomNotFoundException;
+import com.blog.api.commons.CustomServiceUnavailableException;
+import com.blog.api.commons.CustomUnauthorizedException;
 import com.blog.api.commons.CustomUnexpectedException;
 import com.blog.api.commons.DataError;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -35,4 +40,39 @@ public class AdviceManager {
 
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
   }
+
+  @ExceptionHandler({CustomUnauthorizedException.class})
+  public ResponseEntity<DataError> handlerUnauthorized(CustomUnauthorizedException exception) {
+
+    DataError error = new DataError(exception.getMessage());
+
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+  }
+
+  @ExceptionHandler({CustomServiceUnavailableException.class})
+  public ResponseEntity<DataError> handlerServiceUnavailable(
+      CustomServiceUnavailableException exception) {
+
+    DataError error = new DataError(exception.getMessage());
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1").body(error);
+  }
+
+  @ExceptionHandler({CustomConflictException.class})
+  public ResponseEntity<DataError> handlerConflict(CustomConflictException exception) {
+
+    DataError error = new DataError(exception.getMessage());
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+  }
+
+  @ExceptionHandler({ObjectOptimisticLockingFailureException.class})
+  public ResponseEntity<DataError> handlerOptimisticLocking(
+      ObjectOptimisticLockingFailureException exception) {
+
+    DataError error = new DataError("O registro foi alterado por outra requisição.");
+
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+  }
 }
@@ -0,0 +1,72 @@
+package com.blog.api.controller;
+
+import com.blog.api.dto.PostDto;
+import com.blog.api.dto.PostPageDto;
+import com.blog.api.model.Post;
+import com.blog.api.service.PostService;
+import com.blog.api.service.TimelineService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/blog-api/posts")
+public class PostController {
+
+  private PostService postService;
+
+  private TimelineService timelineService;
+
+  public PostController(PostService postService, TimelineService timelineService) {
+
+    this.postService = postService;
+    this.timelineService = timelineService;
+  }
+
+  @PostMapping
+  public ResponseEntity<Post> addPost(@RequestBody PostDto postDto) {
+
+    return ResponseEntity.status(HttpStatus.CREATED).body(postService.addPost(postDto));
+  }
+
+  @PostMapping("/user/{userId}")
+  public ResponseEntity<String> addPosts(@PathVariable Integer userId,
+                                         @RequestBody List<PostDto> posts) {
+
+    return ResponseEntity.status(HttpStatus.CREATED).body(postService.addPosts(userId, posts));
+  }
+
+  @GetMapping("/timeline")
+  public ResponseEntity<PostPageDto> timeline(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer limit) {
+
+    return ResponseEntity.status(HttpStatus.OK).body(timelineService.latest(cursor, limit));
+  }
+
+  @GetMapping("/{id}")
+  public ResponseEntity<Post> postById(@PathVariable Integer id) {
+
+    return ResponseEntity.status(HttpStatus.OK).body(postService.postById(id));
+  }
+
+  @PutMapping("/{id}")
+  public ResponseEntity<Post> updatePost(@PathVariable Integer id, @RequestBody PostDto postDto) {
+
+    return ResponseEntity.status(HttpStatus.OK).body(postService.updatePost(id, postDto));
+  }
+
+  @DeleteMapping("/{id}")
+  public ResponseEntity<String> removePost(@PathVariable Integer id) {
+
+    return ResponseEntity.status(HttpStatus.OK).body(postService.removePost(id));
+  }
+}
@@ -0,0 +1,61 @@
+package com.blog.api.controller;
+
+import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomNotFoundException;
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.dto.UserResponseDto;
+import com.blog.api.repository.ReactiveUserRepository;
+import com.blog.api.service.UserService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/blog-api/reactive")
+public class ReactiveUserController {
+
+  private final ReactiveUserRepository reactiveUserRepository;
+
+  public ReactiveUserController(ReactiveUserRepository reactiveUserRepository) {
+
+    this.reactiveUserRepository = reactiveUserRepository;
+  }
+
+  @GetMapping("/{id}")
+  public Mono<UserResponseDto> userById(@PathVariable Integer id) {
+
+    return reactiveUserRepository.findById(id).switchIfEmpty(notFound());
+  }
+
+  // Mesmos limites da listagem MVC: página padrão de 50 e máxima de 500, continuando pelo after.
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<UserResponseDto> listUsers(@RequestParam(defaultValue = "0") Integer after,
+                                         @RequestParam(required = false) Integer limit) {
+
+    int pageSize = (limit == null) ? UserService.DEFAULT_PAGE_SIZE : limit;
+
+    if (pageSize <= 0) {
+      return Flux.error(() -> new CustomBadRequestException("O limite deve ser maior que zero."));
+    }
+
+    return reactiveUserRepository.findAllAfter(after,
+        Math.min(pageSize, UserService.MAX_PAGE_SIZE));
+  }
+
+  @GetMapping(value = "/{id}/posts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<PostResponseDto> postsByUser(@PathVariable Integer id) {
+
+    return reactiveUserRepository.findById(id).switchIfEmpty(notFound())
+        .thenMany(reactiveUserRepository.findPostsByUserId(id));
+  }
+
+  private static <T> Mono<T> notFound() {
+
+    return Mono.error(() -> new CustomNotFoundException("Usuário não encontrado."));
+  }
+}
@@ -1,59 +1,93 @@
 package com.blog.api.controller;
 
+import com.blog.api.cache.CachedResponse;
+import com.blog.api.cache.ResponseCache;
+import com.blog.api.dto.ImportResultDto;
+import com.blog.api.dto.TokenDto;
 import com.blog.api.dto.UserDto;
-import com.blog.api.model.User;
-import com.blog.api.repository.UserRepository;
+import com.blog.api.dto.UserResponseDto;
+import com.blog.api.service.AuthService;
+import com.blog.api.service.ExportService;
+import com.blog.api.service.ImportService;
+import com.blog.api.service.PasswordService;
+import com.blog.api.service.PostService;
 import com.blog.api.service.UserService;
-import java.util.List;
-import java.util.Optional;
+import java.io.InputStream;
+import java.util.Arrays;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/blog-api")
 public class UserController {
 
-  private UserService userService;
+  private static final String BEARER = "Bearer ";
 
-  private UserRepository userRepository;
+  private final UserService userService;
 
-  private final PasswordEncoder encoder;
+  private final AuthService authService;
 
-  public UserController(UserService userService, UserRepository userRepository,
-                        PasswordEncoder encoder) {
+  private final ExportService exportService;
+
+  private final ImportService importService;
+
+  private final ResponseCache responseCache;
+
+  private final PasswordService passwordService;
+
+  private final PostService postService;
+
+  public UserController(UserService userService, AuthService authService,
+                        ExportService exportService, ImportService importService,
+                        ResponseCache responseCache, PasswordService passwordService,
+                        PostService postService) {
 
     this.userService = userService;
-    this.userRepository = userRepository;
-    this.encoder = encoder;
+    this.authService = authService;
+    this.exportService = exportService;
+    this.importService = importService;
+    this.responseCache = responseCache;
+    this.passwordService = passwordService;
+    this.postService = postService;
   }
 
   @PostMapping
   public ResponseEntity<String> addUser(@RequestBody UserDto userDto) {
 
-    userDto.setPassword(encoder.encode(userDto.getPassword()));
+    userDto.setPassword(passwordService.encode(userDto.getPassword()));
 
     return ResponseEntity.status(HttpStatus.CREATED).body(userService.addUser(userDto));
   }
 
-  @GetMapping("/validate")
-  public ResponseEntity<Boolean> isValid(@RequestBody UserDto userDto) {
+  @PostMapping("/login")
+  public ResponseEntity<TokenDto> login(@RequestBody UserDto userDto) {
 
-    Optional<User> user = userRepository.findByEmail(userDto.getEmail());
+    return ResponseEntity.status(HttpStatus.OK).body(authService.login(userDto));
+  }
 
-    if (user.isEmpty()) {
-      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(false);
-    }
+  @GetMapping("/validate")
+  public ResponseEntity<Boolean> isValid(
+      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+      @RequestBody(required = false) UserDto userDto) {
 
-    boolean valid = encoder.matches(userDto.getPassword(), user.get().getPassword());
+    boolean valid = (authorization != null && authorization.startsWith(BEARER))
+        ? authService.isValidToken(authorization.substring(BEARER.length()))
+        : authService.isValid(userDto);
 
     HttpStatus status = (valid) ? HttpStatus.OK : HttpStatus.UNAUTHORIZED;
 
@@ -61,21 +95,90 @@ public class UserController {
   }
 
   @GetMapping
-  public ResponseEntity<List<User>> listAll() {
+  public ResponseEntity<byte[]> listAll(
+      @RequestParam(required = false) Integer after,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String include,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding) {
+
+    boolean includePosts = includesPosts(include);
+    CachedResponse response = responseCache.get("list:" + after + ":" + limit + ":" + includePosts,
+        () -> userService.listUsers(after, limit, includePosts));
+
+    return cachedResponse(response, encoding);
+  }
+
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportAll() {
 
-    return ResponseEntity.status(HttpStatus.OK).body(userService.listUsers());
+    StreamingResponseBody body = exportService::exportAll;
+
+    return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  @PostMapping("/import")
+  public ResponseEntity<ImportResultDto> importUsers(InputStream body) {
+
+    return ResponseEntity.status(HttpStatus.CREATED).body(importService.importUsers(body));
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<User> userById(@PathVariable Integer id) {
+  public ResponseEntity<byte[]> userById(
+      @PathVariable Integer id,
+      @RequestParam(required = false) String include,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding,
+      WebRequest request) {
+
+    boolean includePosts = includesPosts(include);
+    String key = "user:" + id + ":" + includePosts;
+
+    if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+      String etag = currentTag(key, id, includePosts);
+
+      if (etag != null && request.checkNotModified(etag)) {
+        return null;
+      }
+    }
+
+    CachedResponse response = includePosts
+        ? responseCache.get(key, () -> userService.userDetails(id, true))
+        : responseCache.get(key, () -> userService.userDetails(id, false),
+            user -> versionTag(user.getId(), user.getVersion()));
+
+    return cachedResponse(response, encoding);
+  }
+
+  @GetMapping("/{id}/posts")
+  public ResponseEntity<byte[]> postsByUser(
+      @PathVariable Integer id,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding) {
+
+    CachedResponse response = responseCache.get("posts:" + id + ":" + cursor + ":" + limit,
+        () -> postService.postsByUser(id, cursor, limit));
 
-    return ResponseEntity.status(HttpStatus.OK).body(userService.userById(id));
+    return cachedResponse(response, encoding);
   }
 
   @PutMapping("/{id}")
-  public ResponseEntity<User> updateUser(@PathVariable Integer id, @RequestBody UserDto userDto) {
+  public ResponseEntity<UserResponseDto> updateUser(@PathVariable Integer id,
+                                                    @RequestBody UserDto userDto) {
 
-    return ResponseEntity.status(HttpStatus.OK).body(userService.updateUser(id, userDto));
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(UserResponseDto.fromUser(userService.updateUser(id, userDto)));
+  }
+
+  @PatchMapping("/{id}")
+  public ResponseEntity<UserResponseDto> patchUser(@PathVariable Integer id,
+                                                   @RequestBody UserDto userDto) {
+
+    if (userDto.getPassword() != null && !userDto.getPassword().isEmpty()) {
+      userDto.setPassword(passwordService.encode(userDto.getPassword()));
+    }
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(UserResponseDto.fromUser(userService.patchUser(id, userDto)));
   }
 
   @DeleteMapping("/{id}")
@@ -83,4 +186,43 @@ public class UserController {
 
     return ResponseEntity.status(HttpStatus.OK).body(userService.removeUser(id));
   }
+
+  private ResponseEntity<byte[]> cachedResponse(CachedResponse response, String encoding) {
+
+    ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK)
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    if (response.getGzippedBody() != null && encoding != null && encoding.contains("gzip")) {
+      return builder.eTag("W/" + response.getEtag())
+          .header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.getGzippedBody());
+    }
+
+    return builder.eTag(response.getEtag()).body(response.getBody());
+  }
+
+  private String currentTag(String key, Integer id, boolean includePosts) {
+
+    CachedResponse cached = responseCache.peek(key);
+
+    if (cached != null) {
+      return cached.getEtag();
+    }
+
+    if (includePosts) {
+      return null;
+    }
+
+    return userService.userVersion(id).map(version -> versionTag(id, version)).orElse(null);
+  }
+
+  private String versionTag(Integer id, Integer version) {
+
+    return "\"" + id + "-" + version + "\"";
+  }
+
+  private boolean includesPosts(String include) {
+
+    return include != null && Arrays.asList(include.split(",")).contains("posts");
+  }
 }
@@ -0,0 +1,40 @@
+package com.blog.api.dto;
+
+public class ImportResultDto {
+
+  private long users;
+  private long posts;
+  private long skipped;
+
+  public ImportResultDto() {}
+
+  public ImportResultDto(long users, long posts, long skipped) {
+    this.users = users;
+    this.posts = posts;
+    this.skipped = skipped;
+  }
+
+  public long getUsers() {
+    return users;
+  }
+
+  public void setUsers(long users) {
+    this.users = users;
+  }
+
+  public long getPosts() {
+    return posts;
+  }
+
+  public void setPosts(long posts) {
+    this.posts = posts;
+  }
+
+  public long getSkipped() {
+    return skipped;
+  }
+
+  public void setSkipped(long skipped) {
+    this.skipped = skipped;
+  }
+}
@@ -10,6 +10,7 @@ public class PostDto {
   private String comments;
   private String postDate;
   private User user;
+  private Integer userId;
 
   public String getTitle() {
     return title;
@@ -58,4 +59,12 @@ public class PostDto {
   public void setUser(User user) {
     this.user = user;
   }
+
+  public Integer getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Integer userId) {
+    this.userId = userId;
+  }
 }
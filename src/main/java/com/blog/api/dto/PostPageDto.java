@@ -0,0 +1,32 @@
+package com.blog.api.dto;
+
+import java.util.List;
+
+public class PostPageDto {
+
+  private List<PostResponseDto> posts;
+  private String nextCursor;
+
+  public PostPageDto() {}
+
+  public PostPageDto(List<PostResponseDto> posts, String nextCursor) {
+    this.posts = posts;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<PostResponseDto> getPosts() {
+    return posts;
+  }
+
+  public void setPosts(List<PostResponseDto> posts) {
+    this.posts = posts;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+}
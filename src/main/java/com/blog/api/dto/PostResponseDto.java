@@ -0,0 +1,83 @@
+package com.blog.api.dto;
+
+import java.time.LocalDateTime;
+
+public class PostResponseDto {
+
+  private Integer id;
+  private Integer userId;
+  private String title;
+  private String image;
+  private String description;
+  private String comments;
+  private LocalDateTime postDate;
+
+  public PostResponseDto() {}
+
+  public PostResponseDto(Integer id, Integer userId, String title, String image,
+                         String description, String comments, LocalDateTime postDate) {
+    this.id = id;
+    this.userId = userId;
+    this.title = title;
+    this.image = image;
+    this.description = description;
+    this.comments = comments;
+    this.postDate = postDate;
+  }
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public Integer getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Integer userId) {
+    this.userId = userId;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public void setTitle(String title) {
+    this.title = title;
+  }
+
+  public String getImage() {
+    return image;
+  }
+
+  public void setImage(String image) {
+    this.image = image;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public String getComments() {
+    return comments;
+  }
+
+  public void setComments(String comments) {
+    this.comments = comments;
+  }
+
+  public LocalDateTime getPostDate() {
+    return postDate;
+  }
+
+  public void setPostDate(LocalDateTime postDate) {
+    this.postDate = postDate;
+  }
+}
@@ -0,0 +1,30 @@
+package com.blog.api.dto;
+
+public class TokenDto {
+
+  private String token;
+  private Long expiresAt;
+
+  public TokenDto() {}
+
+  public TokenDto(String token, Long expiresAt) {
+    this.token = token;
+    this.expiresAt = expiresAt;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public void setToken(String token) {
+    this.token = token;
+  }
+
+  public Long getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Long expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
@@ -10,6 +10,7 @@ public class UserDto {
   private String username;
   private String email;
   private String password;
+  private Integer version;
   private List<Post> posts = new ArrayList<>();
 
   public String getUsername() {
@@ -36,6 +37,14 @@ public class UserDto {
     this.password = password;
   }
 
+  public Integer getVersion() {
+    return version;
+  }
+
+  public void setVersion(Integer version) {
+    this.version = version;
+  }
+
   public List<Post> getPosts() {
     return posts;
   }
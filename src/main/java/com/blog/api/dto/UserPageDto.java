@@ -0,0 +1,32 @@
+package com.blog.api.dto;
+
+import java.util.List;
+
+public class UserPageDto {
+
+  private List<UserResponseDto> users;
+  private Integer nextCursor;
+
+  public UserPageDto() {}
+
+  public UserPageDto(List<UserResponseDto> users, Integer nextCursor) {
+    this.users = users;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<UserResponseDto> getUsers() {
+    return users;
+  }
+
+  public void setUsers(List<UserResponseDto> users) {
+    this.users = users;
+  }
+
+  public Integer getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(Integer nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+}
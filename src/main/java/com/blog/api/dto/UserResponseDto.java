@@ -0,0 +1,74 @@
+package com.blog.api.dto;
+
+import com.blog.api.model.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserResponseDto {
+
+  private Integer id;
+  private String username;
+  private String email;
+  private Integer version;
+  private List<PostResponseDto> posts;
+
+  public UserResponseDto() {}
+
+  public UserResponseDto(Integer id, String username, String email) {
+    this.id = id;
+    this.username = username;
+    this.email = email;
+  }
+
+  public UserResponseDto(Integer id, String username, String email, Integer version) {
+    this(id, username, email);
+    this.version = version;
+  }
+
+  public static UserResponseDto fromUser(User user) {
+    return new UserResponseDto(user.getId(), user.getUsername(), user.getEmail(),
+        user.getVersion());
+  }
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public String getUsername() {
+    return username;
+  }
+
+  public void setUsername(String username) {
+    this.username = username;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public Integer getVersion() {
+    return version;
+  }
+
+  public void setVersion(Integer version) {
+    this.version = version;
+  }
+
+  public List<PostResponseDto> getPosts() {
+    return posts;
+  }
+
+  public void setPosts(List<PostResponseDto> posts) {
+    this.posts = posts;
+  }
+}
@@ -0,0 +1,50 @@
+package com.blog.api.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+// Bancos criados pelo antigo data.sql podem já ter as colunas (versões mais novas do script) ou
+// não (versão original), e o MySQL não tem "add column if not exists".
+public class V3__AddUserDeletedAndVersion extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+
+    Connection connection = context.getConnection();
+    Set<String> columns = columns(connection, "tb_user");
+
+    try (Statement statement = connection.createStatement()) {
+      if (!columns.contains("deleted")) {
+        statement.execute("alter table tb_user add column deleted boolean not null default false");
+      }
+
+      if (!columns.contains("version")) {
+        statement.execute("alter table tb_user add column version int not null default 0");
+      }
+    }
+  }
+
+  private Set<String> columns(Connection connection, String table) throws SQLException {
+
+    Set<String> columns = new HashSet<>();
+
+    try (Statement statement = connection.createStatement();
+         ResultSet result = statement.executeQuery("select * from " + table + " where 1 = 0")) {
+      ResultSetMetaData metaData = result.getMetaData();
+
+      for (int i = 1; i <= metaData.getColumnCount(); i++) {
+        columns.add(metaData.getColumnName(i).toLowerCase(Locale.ROOT));
+      }
+    }
+
+    return columns;
+  }
+}
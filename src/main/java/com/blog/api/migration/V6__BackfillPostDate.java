@@ -0,0 +1,81 @@
+package com.blog.api.migration;
+
+import com.blog.api.commons.PostDates;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V6__BackfillPostDate extends BaseJavaMigration {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  private final Logger logger = LogManager.getLogger(V6__BackfillPostDate.class);
+
+  // Cada bloco é confirmado separadamente, sem segurar locks na tabela inteira até o fim.
+  @Override
+  public boolean canExecuteInTransaction() {
+    return false;
+  }
+
+  @Override
+  public void migrate(Context context) throws Exception {
+
+    Connection connection = context.getConnection();
+    boolean autoCommit = connection.getAutoCommit();
+    int lastId = 0;
+    long converted = 0;
+    long unparsed = 0;
+
+    connection.setAutoCommit(false);
+
+    try (PreparedStatement select = connection.prepareStatement("select id, post_date from tb_post"
+             + " where id > ? order by id limit " + CHUNK_SIZE);
+         PreparedStatement update = connection.prepareStatement(
+             "update tb_post set post_date_ts = ? where id = ?")) {
+
+      int rows;
+
+      do {
+        rows = 0;
+        select.setInt(1, lastId);
+
+        try (ResultSet result = select.executeQuery()) {
+          while (result.next()) {
+            rows++;
+            lastId = result.getInt(1);
+
+            String text = result.getString(2);
+            LocalDateTime postDate = PostDates.parse(text);
+
+            if (postDate == null) {
+              unparsed += (text == null || text.isBlank()) ? 0 : 1;
+              continue;
+            }
+
+            update.setTimestamp(1, Timestamp.valueOf(postDate));
+            update.setInt(2, lastId);
+            update.addBatch();
+            converted++;
+          }
+        }
+
+        update.executeBatch();
+        connection.commit();
+      } while (rows == CHUNK_SIZE);
+    } catch (Exception err) {
+      connection.rollback();
+      throw err;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+
+    logger.info("Datas dos posts convertidas: {} (sem formato reconhecido ou fora do intervalo:"
+        + " {}).", converted, unparsed);
+  }
+}
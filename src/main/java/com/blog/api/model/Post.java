@@ -1,21 +1,35 @@
 package com.blog.api.model;
 
+import com.blog.api.commons.PostDateDeserializer;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @Table(name = "tb_post")
 public class Post {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = "post_id")
+  @GenericGenerator(name = "post_id", strategy = "org.hibernate.id.enhanced.TableGenerator",
+      parameters = {
+          @Parameter(name = "table_name", value = "tb_sequence"),
+          @Parameter(name = "segment_column_name", value = "seq_name"),
+          @Parameter(name = "value_column_name", value = "next_val"),
+          @Parameter(name = "segment_value", value = "tb_post"),
+          @Parameter(name = "increment_size", value = "50"),
+          @Parameter(name = "optimizer", value = "pooled-lo")
+      })
   private Integer id;
 
   @Column
@@ -31,23 +45,24 @@ public class Post {
   private String comments;
 
   @Column(name = "post_date")
-  private String postDate;
+  @JsonDeserialize(using = PostDateDeserializer.class)
+  private LocalDateTime postDate;
 
   @JsonIgnore
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
 
   public Post() {}
 
   public Post(String title, String image, String description, String comments,
-              String postDate, User user) {
+              LocalDateTime postDate, User user) {
     this.title = title;
     this.image = image;
     this.description = description;
     this.comments = comments;
     this.postDate = postDate;
-    this.user = null;
+    this.user = user;
   }
 
   public Integer getId() {
@@ -86,11 +101,11 @@ public class Post {
     this.comments = comments;
   }
 
-  public String getPostDate() {
+  public LocalDateTime getPostDate() {
     return postDate;
   }
 
-  public void setPostDate(String postDate) {
+  public void setPostDate(LocalDateTime postDate) {
     this.postDate = postDate;
   }
 
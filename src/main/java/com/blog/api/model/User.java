@@ -5,19 +5,34 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.Version;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Where;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "tb_user")
+@Where(clause = "deleted = false")
+@DynamicUpdate
 public class User {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = "user_id")
+  @GenericGenerator(name = "user_id", strategy = "org.hibernate.id.enhanced.TableGenerator",
+      parameters = {
+          @Parameter(name = "table_name", value = "tb_sequence"),
+          @Parameter(name = "segment_column_name", value = "seq_name"),
+          @Parameter(name = "value_column_name", value = "next_val"),
+          @Parameter(name = "segment_value", value = "tb_user"),
+          @Parameter(name = "increment_size", value = "50"),
+          @Parameter(name = "optimizer", value = "pooled-lo")
+      })
   private Integer id;
 
   @Column(nullable = false)
@@ -29,6 +44,13 @@ public class User {
   @Column(nullable = false)
   private String password;
 
+  @Column(nullable = false)
+  private boolean deleted;
+
+  @Version
+  @Column(nullable = false)
+  private Integer version;
+
   @OneToMany(mappedBy = "user", fetch = FetchType.LAZY, cascade = CascadeType.ALL,
       orphanRemoval = true)
   private List<Post> posts;
@@ -70,6 +92,14 @@ public class User {
     this.password = password;
   }
 
+  public boolean isDeleted() {
+    return deleted;
+  }
+
+  public Integer getVersion() {
+    return version;
+  }
+
   public List<Post> getPosts() {
     return posts;
   }
@@ -1,9 +1,65 @@
 package com.blog.api.repository;
 
+import com.blog.api.dto.PostResponseDto;
 import com.blog.api.model.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Integer> {
+
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("select new com.blog.api.dto.PostResponseDto(p.id, p.user.id, p.title, p.image,"
+      + " p.description, p.comments, p.postDate) from Post p join p.user u"
+      + " where u.deleted = false order by p.id")
+  Stream<PostResponseDto> streamAll();
+
+  @Query("select new com.blog.api.dto.PostResponseDto(p.id, p.user.id, p.title, p.image,"
+      + " p.description, p.comments, p.postDate) from Post p where p.user.id in :userIds"
+      + " order by p.id")
+  List<PostResponseDto> findByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+  @Query("select new com.blog.api.dto.PostResponseDto(p.id, p.user.id, p.title, p.image,"
+      + " p.description, p.comments, p.postDate) from Post p join p.user u"
+      + " where u.deleted = false order by p.id desc")
+  List<PostResponseDto> findRecent(Pageable pageable);
+
+  // Busca por seek em (post_date, id) pelo índice ix_post_user_date; posts sem data vêm por último.
+  @Query("select new com.blog.api.dto.PostResponseDto(p.id, p.user.id, p.title, p.image,"
+      + " p.description, p.comments, p.postDate) from Post p where p.user.id = :userId"
+      + " and p.postDate is not null order by p.postDate desc, p.id desc")
+  List<PostResponseDto> findLatestByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+  @Query("select new com.blog.api.dto.PostResponseDto(p.id, p.user.id, p.title, p.image,"
+      + " p.description, p.comments, p.postDate) from Post p where p.user.id = :userId"
+      + " and (p.postDate < :postDate or (p.postDate = :postDate and p.id < :id))"
+      + " order by p.postDate desc, p.id desc")
+  List<PostResponseDto> findByUserIdBefore(@Param("userId") Integer userId,
+                                           @Param("postDate") LocalDateTime postDate,
+                                           @Param("id") Integer id, Pageable pageable);
+
+  @Query("select new com.blog.api.dto.PostResponseDto(p.id, p.user.id, p.title, p.image,"
+      + " p.description, p.comments, p.postDate) from Post p where p.user.id = :userId"
+      + " and p.postDate is null and p.id < :id order by p.id desc")
+  List<PostResponseDto> findUndatedByUserIdBefore(@Param("userId") Integer userId,
+                                                  @Param("id") Integer id, Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from tb_post where user_id = :userId limit :limit", nativeQuery = true)
+  int deleteChunkByUserId(@Param("userId") Integer userId, @Param("limit") int limit);
 }
@@ -0,0 +1,129 @@
+package com.blog.api.repository;
+
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.dto.UserResponseDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.ToDoubleFunction;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Pool R2DBC próprio, fora do contexto: um ConnectionFactory publicado como bean ativaria a
+// autoconfiguração R2DBC e um segundo gerenciador de transações ao lado do JPA.
+@Repository
+public class ReactiveUserRepository {
+
+  private final ConnectionFactory connectionFactory;
+
+  private final DatabaseClient databaseClient;
+
+  @Autowired
+  public ReactiveUserRepository(MeterRegistry registry,
+                                @Value("${blog-api.r2dbc.url}") String url,
+                                @Value("${blog-api.r2dbc.username:}") String username,
+                                @Value("${blog-api.r2dbc.password:}") String password,
+                                @Value("${blog-api.r2dbc.initial-size:2}") int initialSize,
+                                @Value("${blog-api.r2dbc.max-size:20}") int maxSize,
+                                @Value("${blog-api.r2dbc.max-acquire-ms:15000}")
+                                    long maxAcquireMillis) {
+
+    this(pool(url, username, password, initialSize, maxSize, maxAcquireMillis));
+
+    ConnectionPool pool = (ConnectionPool) connectionFactory;
+
+    pool.getMetrics().ifPresent(metrics -> {
+      gauge(registry, "r2dbc.pool.acquired", metrics, PoolMetrics::acquiredSize);
+      gauge(registry, "r2dbc.pool.idle", metrics, PoolMetrics::idleSize);
+      gauge(registry, "r2dbc.pool.pending", metrics, PoolMetrics::pendingAcquireSize);
+      gauge(registry, "r2dbc.pool.max", metrics, PoolMetrics::getMaxAllocatedSize);
+    });
+  }
+
+  ReactiveUserRepository(ConnectionFactory connectionFactory) {
+
+    this.connectionFactory = connectionFactory;
+    this.databaseClient = DatabaseClient.create(connectionFactory);
+  }
+
+  public Mono<UserResponseDto> findById(Integer id) {
+
+    return databaseClient.sql("select id, username, email, version from tb_user"
+            + " where id = :id and deleted = false")
+        .bind("id", id)
+        .map((row, metadata) -> new UserResponseDto(row.get("id", Integer.class),
+            row.get("username", String.class), row.get("email", String.class),
+            row.get("version", Integer.class)))
+        .one();
+  }
+
+  public Flux<UserResponseDto> findAllAfter(Integer after, int limit) {
+
+    return databaseClient.sql("select id, username, email from tb_user"
+            + " where id > :after and deleted = false order by id limit :limit")
+        .bind("after", after)
+        .bind("limit", limit)
+        .map((row, metadata) -> new UserResponseDto(row.get("id", Integer.class),
+            row.get("username", String.class), row.get("email", String.class)))
+        .all();
+  }
+
+  public Flux<PostResponseDto> findPostsByUserId(Integer userId) {
+
+    return databaseClient.sql("select id, user_id, title, image, description, comments,"
+            + " post_date from tb_post where user_id = :userId order by id")
+        .bind("userId", userId)
+        .map((row, metadata) -> new PostResponseDto(row.get("id", Integer.class),
+            row.get("user_id", Integer.class), row.get("title", String.class),
+            row.get("image", String.class), row.get("description", String.class),
+            row.get("comments", String.class), row.get("post_date", LocalDateTime.class)))
+        .all();
+  }
+
+  @PreDestroy
+  public void close() {
+
+    if (connectionFactory instanceof Disposable) {
+      ((Disposable) connectionFactory).dispose();
+    }
+  }
+
+  private static ConnectionPool pool(String url, String username, String password,
+                                     int initialSize, int maxSize, long maxAcquireMillis) {
+
+    ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+
+    if (!username.isEmpty()) {
+      options.option(ConnectionFactoryOptions.USER, username)
+          .option(ConnectionFactoryOptions.PASSWORD, password);
+    }
+
+    ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+
+    return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+        .name("r2dbc")
+        .initialSize(initialSize)
+        .maxSize(maxSize)
+        .maxAcquireTime(Duration.ofMillis(maxAcquireMillis))
+        .build());
+  }
+
+  private static void gauge(MeterRegistry registry, String name, PoolMetrics metrics,
+                            ToDoubleFunction<PoolMetrics> value) {
+
+    Gauge.builder(name, metrics, value).register(registry);
+  }
+}
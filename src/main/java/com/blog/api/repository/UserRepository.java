@@ -1,14 +1,64 @@
 package com.blog.api.repository;
 
+import com.blog.api.dto.UserResponseDto;
 import com.blog.api.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import javax.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
 
   boolean existsByEmail(String email);
   Optional<User> findByEmail(String email);
+
+  @Query("select new com.blog.api.dto.UserResponseDto(u.id, u.username, u.email) from User u"
+      + " where u.id > :after order by u.id")
+  List<UserResponseDto> findPageAfter(@Param("after") Integer after, Pageable pageable);
+
+  @Query("select u.version from User u where u.id = :id")
+  Optional<Integer> findVersionById(@Param("id") Integer id);
+
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("select u from User u order by u.id")
+  Stream<User> streamAll();
+
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("select u.email from User u")
+  Stream<String> streamAllEmails();
+
+  // Sem "versioned": trocar o custo do hash não muda o usuário visto pela API (versão e ETag).
+  @Transactional
+  @Modifying
+  @Query("update User u set u.password = :newPassword where u.id = :id"
+      + " and u.password = :oldPassword")
+  int updatePassword(@Param("id") Integer id, @Param("oldPassword") String oldPassword,
+                     @Param("newPassword") String newPassword);
+
+  @Transactional
+  @Modifying
+  @Query(value = "update tb_user set deleted = true, version = version + 1"
+      + " where id = :id and deleted = false", nativeQuery = true)
+  int markDeleted(@Param("id") Integer id);
+
+  @Query(value = "select id from tb_user where deleted = true order by id limit :limit",
+      nativeQuery = true)
+  List<Integer> findDeletedIds(@Param("limit") int limit);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from tb_user where id = :id and deleted = true", nativeQuery = true)
+  int purgeDeleted(@Param("id") Integer id);
 }
@@ -0,0 +1,88 @@
+package com.blog.api.service;
+
+import com.blog.api.cache.SingleFlight;
+import com.blog.api.commons.CustomUnauthorizedException;
+import com.blog.api.dto.TokenDto;
+import com.blog.api.dto.UserDto;
+import com.blog.api.model.User;
+import com.blog.api.repository.UserRepository;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuthService {
+
+  private UserRepository userRepository;
+
+  private PasswordService passwordService;
+
+  private TokenService tokenService;
+
+  private SingleFlight<String, Optional<User>> emailLoads;
+
+  private final Logger logger = LogManager.getLogger(AuthService.class);
+
+  public AuthService(UserRepository userRepository, PasswordService passwordService,
+                     TokenService tokenService,
+                     SingleFlight<String, Optional<User>> emailLoads) {
+    this.userRepository = userRepository;
+    this.passwordService = passwordService;
+    this.tokenService = tokenService;
+    this.emailLoads = emailLoads;
+  }
+
+  public boolean isValid(UserDto userDto) {
+
+    return authenticate(userDto).isPresent();
+  }
+
+  public boolean isValidToken(String token) {
+
+    return tokenService.verify(token).isPresent();
+  }
+
+  public TokenDto login(UserDto userDto) {
+
+    logger.info("Pedido de login.");
+
+    Optional<User> user = authenticate(userDto);
+
+    if (user.isEmpty()) {
+      logger.error("Error message: Email ou password inválidos.");
+      throw new CustomUnauthorizedException("Email ou password inválidos.");
+    }
+
+    return tokenService.issue(user.get().getId());
+  }
+
+  private Optional<User> authenticate(UserDto userDto) {
+
+    if (userDto == null || userDto.getEmail() == null || userDto.getPassword() == null) {
+      return Optional.empty();
+    }
+
+    Optional<User> user = emailLoads.load(userDto.getEmail(),
+        () -> userRepository.findByEmail(userDto.getEmail()));
+
+    if (user.isEmpty()) {
+      return Optional.empty();
+    }
+
+    String encodedPassword = user.get().getPassword();
+
+    if (!passwordService.matches(userDto.getPassword(), encodedPassword)) {
+      return Optional.empty();
+    }
+
+    if (passwordService.needsRehash(encodedPassword)) {
+      Integer id = user.get().getId();
+
+      passwordService.rehashInBackground(userDto.getPassword(),
+          rehashed -> userRepository.updatePassword(id, encodedPassword, rehashed));
+    }
+
+    return user;
+  }
+}
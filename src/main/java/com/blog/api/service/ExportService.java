@@ -0,0 +1,120 @@
+package com.blog.api.service;
+
+import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.model.User;
+import com.blog.api.repository.PostRepository;
+import com.blog.api.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ExportService {
+
+  public static final int CLEAR_INTERVAL = 1000;
+
+  private UserRepository userRepository;
+
+  private PostRepository postRepository;
+
+  private EntityManager entityManager;
+
+  private final ObjectMapper objectMapper;
+
+  private final Logger logger = LogManager.getLogger(ExportService.class);
+
+  public ExportService(UserRepository userRepository, PostRepository postRepository,
+                       EntityManager entityManager, ObjectMapper objectMapper) {
+    this.userRepository = userRepository;
+    this.postRepository = postRepository;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+  }
+
+  @Transactional
+  public void exportAll(OutputStream out) {
+
+    long users = 0;
+    long posts = 0;
+
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      logger.info("Exportação de usuários e posts iniciada.");
+
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+
+      try (Stream<User> stream = userRepository.streamAll()) {
+        Iterator<User> iterator = stream.iterator();
+
+        while (iterator.hasNext()) {
+          writeUser(generator, iterator.next());
+
+          if (++users % CLEAR_INTERVAL == 0) {
+            generator.flush();
+            entityManager.clear();
+          }
+        }
+      }
+
+      try (Stream<PostResponseDto> stream = postRepository.streamAll()) {
+        Iterator<PostResponseDto> iterator = stream.iterator();
+
+        while (iterator.hasNext()) {
+          writePost(generator, iterator.next());
+
+          if (++posts % CLEAR_INTERVAL == 0) {
+            generator.flush();
+          }
+        }
+      }
+
+      generator.flush();
+
+      logger.info("Exportação concluída: {} usuários e {} posts.", users, posts);
+    } catch (IOException err) {
+      logger.error("Erro inesperado ao exportar usuários e posts.");
+      throw new CustomUnexpectedException("Erro inesperado ao exportar usuários e posts.");
+    }
+  }
+
+  private void writeUser(JsonGenerator generator, User user) throws IOException {
+
+    generator.writeStartObject();
+    generator.writeStringField("type", "user");
+    generator.writeNumberField("id", user.getId());
+    generator.writeStringField("username", user.getUsername());
+    generator.writeStringField("email", user.getEmail());
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  private void writePost(JsonGenerator generator, PostResponseDto post) throws IOException {
+
+    generator.writeStartObject();
+    generator.writeStringField("type", "post");
+    generator.writeNumberField("id", post.getId());
+
+    if (post.getUserId() != null) {
+      generator.writeNumberField("userId", post.getUserId());
+    }
+
+    generator.writeStringField("title", post.getTitle());
+    generator.writeStringField("image", post.getImage());
+    generator.writeStringField("description", post.getDescription());
+    generator.writeStringField("comments", post.getComments());
+    generator.writeStringField("postDate", (post.getPostDate() == null) ? null
+        : post.getPostDate().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+}
@@ -0,0 +1,248 @@
+package com.blog.api.service;
+
+import com.blog.api.cache.EmailBloomFilter;
+import com.blog.api.cache.ResponseCache;
+import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomServiceUnavailableException;
+import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.dto.ImportResultDto;
+import com.blog.api.dto.UserDto;
+import com.blog.api.model.Post;
+import com.blog.api.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ImportService {
+
+  // Hash BCrypt completo; qualquer outro valor (mesmo começando com "$2") é senha em texto.
+  private static final Pattern BCRYPT_HASH =
+      Pattern.compile("^\\$2[abxy]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+  private UserService userService;
+
+  private PasswordService passwordService;
+
+  private EmailBloomFilter emailFilter;
+
+  private ResponseCache responseCache;
+
+  private EntityManager entityManager;
+
+  private TimelineService timelineService;
+
+  private final ObjectMapper objectMapper;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final int chunkSize;
+
+  private final Logger logger = LogManager.getLogger(ImportService.class);
+
+  public ImportService(UserService userService, PasswordService passwordService,
+                       EmailBloomFilter emailFilter, ResponseCache responseCache,
+                       EntityManager entityManager, TimelineService timelineService,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${blog-api.import.chunk-size:1000}") int chunkSize) {
+    this.userService = userService;
+    this.passwordService = passwordService;
+    this.emailFilter = emailFilter;
+    this.responseCache = responseCache;
+    this.entityManager = entityManager;
+    this.timelineService = timelineService;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  public ImportResultDto importUsers(InputStream in) {
+
+    ImportResultDto result = new ImportResultDto(0, 0, 0);
+
+    try (MappingIterator<UserDto> iterator = objectMapper.readerFor(UserDto.class).readValues(in)) {
+      logger.info("Importação de usuários iniciada.");
+
+      List<UserDto> chunk = new ArrayList<>(chunkSize);
+
+      while (iterator.hasNextValue()) {
+        chunk.add(iterator.nextValue());
+
+        if (chunk.size() == chunkSize) {
+          importChunk(chunk, result);
+          chunk.clear();
+        }
+      }
+
+      importChunk(chunk, result);
+
+      logger.info("Importação concluída: {} usuários, {} posts e {} registros ignorados.",
+          result.getUsers(), result.getPosts(), result.getSkipped());
+
+      return result;
+    } catch (JsonProcessingException err) {
+      logger.error("Conteúdo inválido na importação após {} usuários.", result.getUsers());
+      throw new CustomBadRequestException("Conteúdo inválido na linha "
+          + err.getLocation().getLineNr() + ". Usuários importados até aqui: "
+          + result.getUsers() + ".");
+    } catch (DataAccessException | PersistenceException err) {
+      // O bloco com erro foi desfeito; os anteriores já estão confirmados.
+      if (UserService.duplicatedEmail(err)) {
+        logger.error("Email já cadastrado na importação após {} usuários.", result.getUsers());
+        throw new CustomBadRequestException("Existe um usuário cadastrado com um dos emails "
+            + "importados. Usuários importados até aqui: " + result.getUsers() + ".");
+      }
+
+      logger.error("Erro inesperado na importação após {} usuários.", result.getUsers());
+      throw new CustomUnexpectedException("Erro inesperado ao importar usuários. "
+          + "Usuários importados até aqui: " + result.getUsers() + ".");
+    } catch (CustomServiceUnavailableException err) {
+      logger.error("Fila de senhas cheia na importação após {} usuários.", result.getUsers());
+      throw new CustomServiceUnavailableException("Servidor ocupado. Tente novamente em "
+          + "instantes. Usuários importados até aqui: " + result.getUsers() + ".");
+    } catch (CustomUnexpectedException err) {
+      logger.error("Erro inesperado na importação após {} usuários.", result.getUsers());
+      throw new CustomUnexpectedException("Erro inesperado ao importar usuários. "
+          + "Usuários importados até aqui: " + result.getUsers() + ".");
+    } catch (IOException err) {
+      logger.error("Erro inesperado ao importar usuários.");
+      throw new CustomUnexpectedException("Erro inesperado ao importar usuários.");
+    } finally {
+      if (result.getUsers() > 0) {
+        responseCache.invalidate();
+      }
+    }
+  }
+
+  private void importChunk(List<UserDto> chunk, ImportResultDto result) {
+
+    List<UserDto> valid = new ArrayList<>(chunk.size());
+    Set<String> emails = new HashSet<>();
+
+    for (UserDto userDto : chunk) {
+      if (!isValid(userDto)
+          || !emails.add(EmailBloomFilter.normalize(userDto.getEmail().trim()))
+          || userService.emailInUse(userDto.getEmail())) {
+        result.setSkipped(result.getSkipped() + 1);
+        continue;
+      }
+
+      valid.add(userDto);
+    }
+
+    if (valid.isEmpty()) {
+      return;
+    }
+
+    // Senhas do bloco codificadas em paralelo no pool, antes de abrir a transação.
+    List<String> passwords = encodePasswords(valid);
+    List<User> accepted = new ArrayList<>(valid.size());
+    long posts = 0;
+
+    for (int i = 0; i < valid.size(); i++) {
+      User user = toUser(valid.get(i), passwords.get(i));
+      posts += user.getPosts().size();
+      accepted.add(user);
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      accepted.forEach(entityManager::persist);
+      entityManager.flush();
+      // Publicados na timeline só depois do commit do bloco.
+      List<Post> created = new ArrayList<>();
+      accepted.forEach(user -> created.addAll(user.getPosts()));
+      timelineService.published(created);
+      entityManager.clear();
+    });
+
+    accepted.forEach(user -> emailFilter.put(user.getEmail()));
+
+    result.setUsers(result.getUsers() + accepted.size());
+    result.setPosts(result.getPosts() + posts);
+  }
+
+  private List<String> encodePasswords(List<UserDto> users) {
+
+    List<String> passwords = new ArrayList<>(users.size());
+    List<String> rawPasswords = new ArrayList<>();
+
+    for (UserDto userDto : users) {
+      boolean encoded = BCRYPT_HASH.matcher(userDto.getPassword()).matches();
+
+      passwords.add(encoded ? userDto.getPassword() : null);
+
+      if (!encoded) {
+        rawPasswords.add(userDto.getPassword());
+      }
+    }
+
+    if (rawPasswords.isEmpty()) {
+      return passwords;
+    }
+
+    Iterator<String> hashes = passwordService.encodeAll(rawPasswords).iterator();
+
+    for (int i = 0; i < passwords.size(); i++) {
+      if (passwords.get(i) == null) {
+        passwords.set(i, hashes.next());
+      }
+    }
+
+    return passwords;
+  }
+
+  private boolean isValid(UserDto userDto) {
+
+    if (isBlank(userDto.getUsername()) || isBlank(userDto.getEmail())
+        || isBlank(userDto.getPassword())) {
+      return false;
+    }
+
+    if (userDto.getPosts() != null) {
+      for (Post post : userDto.getPosts()) {
+        if (isBlank(post.getTitle())) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  private User toUser(UserDto userDto, String password) {
+
+    User user = new User(userDto.getUsername(), userDto.getEmail(), password);
+
+    if (userDto.getPosts() != null) {
+      for (Post post : userDto.getPosts()) {
+        user.addNewPost(new Post(post.getTitle(), post.getImage(), post.getDescription(),
+            post.getComments(), post.getPostDate(), user));
+      }
+    }
+
+    return user;
+  }
+
+  private boolean isBlank(String value) {
+
+    return value == null || value.isBlank();
+  }
+}
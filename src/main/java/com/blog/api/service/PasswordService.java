@@ -0,0 +1,197 @@
+package com.blog.api.service;
+
+import com.blog.api.commons.BCryptCalibrator;
+import com.blog.api.commons.CustomServiceUnavailableException;
+import com.blog.api.commons.CustomUnexpectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PasswordService {
+
+  private final PasswordEncoder encoder;
+
+  private final int strength;
+
+  private final ThreadPoolExecutor executor;
+
+  private final Timer encodeTimer;
+
+  private final Timer matchesTimer;
+
+  private final Timer queueWaitTimer;
+
+  private final Counter rejected;
+
+  private final Counter rehashed;
+
+  private final Logger logger = LogManager.getLogger(PasswordService.class);
+
+  public PasswordService(PasswordEncoder encoder, BCryptCalibrator calibrator,
+                         MeterRegistry registry,
+                         @Value("${blog-api.bcrypt.threads:0}") int threads,
+                         @Value("${blog-api.bcrypt.queue-capacity:64}") int queueCapacity) {
+
+    int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger threadCount = new AtomicInteger();
+
+    this.encoder = encoder;
+    this.strength = calibrator.getStrength();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+          Thread thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer = Timer.builder("bcrypt.duration").tag("operation", "encode")
+        .publishPercentiles(0.5, 0.99).register(registry);
+    this.matchesTimer = Timer.builder("bcrypt.duration").tag("operation", "matches")
+        .publishPercentiles(0.5, 0.99).register(registry);
+    this.queueWaitTimer = Timer.builder("bcrypt.queue.wait")
+        .publishPercentiles(0.5, 0.99).register(registry);
+    this.rejected = Counter.builder("bcrypt.rejected").register(registry);
+    this.rehashed = Counter.builder("bcrypt.rehashed").register(registry);
+
+    Gauge.builder("bcrypt.strength", () -> strength).register(registry);
+
+    Gauge.builder("bcrypt.queue.depth", executor, pool -> pool.getQueue().size())
+        .register(registry);
+    Gauge.builder("bcrypt.queue.capacity", executor,
+        pool -> pool.getQueue().size() + pool.getQueue().remainingCapacity()).register(registry);
+    Gauge.builder("bcrypt.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(registry);
+  }
+
+  public String encode(String rawPassword) {
+
+    return submit(() -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword)));
+  }
+
+  // Importação em lote: as senhas são codificadas em paralelo, em ondas de até uma tarefa por
+  // thread do pool, usando no máximo metade do espaço livre da fila (o resto fica para os logins).
+  public List<String> encodeAll(List<String> rawPasswords) {
+
+    List<String> encoded = new ArrayList<>(rawPasswords.size());
+    int start = 0;
+
+    while (start < rawPasswords.size()) {
+      int wave = Math.max(1, Math.min(executor.getMaximumPoolSize(),
+          executor.getQueue().remainingCapacity() / 2));
+      List<Future<String>> futures = new ArrayList<>(wave);
+
+      try {
+        for (String rawPassword
+            : rawPasswords.subList(start, Math.min(start + wave, rawPasswords.size()))) {
+          futures.add(enqueue(
+              () -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword))));
+        }
+      } catch (CustomServiceUnavailableException err) {
+        futures.forEach(future -> future.cancel(true));
+        throw err;
+      }
+
+      for (Future<String> future : futures) {
+        encoded.add(await(future));
+      }
+
+      start += wave;
+    }
+
+    return encoded;
+  }
+
+  public boolean matches(String rawPassword, String encodedPassword) {
+
+    return submit(() -> matchesTimer.recordCallable(
+        () -> encoder.matches(rawPassword, encodedPassword)));
+  }
+
+  // Só sobe o custo: instâncias com custos diferentes (fixo no fast-startup, calibrado nas
+  // demais) não ficam recodificando a mesma senha a cada login.
+  public boolean needsRehash(String encodedPassword) {
+
+    return BCryptCalibrator.cost(encodedPassword) < strength;
+  }
+
+  public void rehashInBackground(String rawPassword, Consumer<String> onRehashed) {
+
+    try {
+      executor.execute(() -> {
+        try {
+          onRehashed.accept(encodeTimer.record(() -> encoder.encode(rawPassword)));
+          rehashed.increment();
+        } catch (RuntimeException err) {
+          logger.error("Erro inesperado ao atualizar o custo da senha.");
+        }
+      });
+    } catch (RejectedExecutionException err) {
+      logger.info("Fila cheia, atualização do custo da senha adiada para o próximo login.");
+    }
+  }
+
+  private <T> T submit(Callable<T> task) {
+
+    return await(enqueue(task));
+  }
+
+  private <T> Future<T> enqueue(Callable<T> task) {
+
+    long queuedAt = System.nanoTime();
+
+    try {
+      return executor.submit(() -> {
+        queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        return task.call();
+      });
+    } catch (RejectedExecutionException err) {
+      rejected.increment();
+      logger.error("Fila de processamento de senhas cheia.");
+      throw new CustomServiceUnavailableException(
+          "Servidor ocupado. Tente novamente em instantes.");
+    }
+  }
+
+  private <T> T await(Future<T> future) {
+
+    try {
+      return future.get();
+    } catch (InterruptedException err) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new CustomUnexpectedException("Erro inesperado ao processar a senha.");
+    } catch (ExecutionException err) {
+      if (err.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) err.getCause();
+      }
+
+      logger.error("Erro inesperado ao processar a senha.");
+      throw new CustomUnexpectedException("Erro inesperado ao processar a senha.");
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,324 @@
+package com.blog.api.service;
+
+import com.blog.api.cache.ResponseCache;
+import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomNotFoundException;
+import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.commons.PostDates;
+import com.blog.api.dto.PostDto;
+import com.blog.api.dto.PostPageDto;
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.model.Post;
+import com.blog.api.model.User;
+import com.blog.api.repository.PostRepository;
+import com.blog.api.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PostService {
+
+  public static final int BATCH_SIZE = 500;
+
+  public static final int DEFAULT_PAGE_SIZE = 20;
+
+  public static final int MAX_PAGE_SIZE = 200;
+
+  private PostRepository postRepository;
+
+  private UserRepository userRepository;
+
+  private EntityManager entityManager;
+
+  private ResponseCache responseCache;
+
+  private TimelineService timelineService;
+
+  private final Logger logger = LogManager.getLogger(PostService.class);
+
+  public PostService(PostRepository postRepository, UserRepository userRepository,
+                     EntityManager entityManager, ResponseCache responseCache,
+                     TimelineService timelineService) {
+    this.postRepository = postRepository;
+    this.userRepository = userRepository;
+    this.entityManager = entityManager;
+    this.responseCache = responseCache;
+    this.timelineService = timelineService;
+  }
+
+  @Transactional
+  public Post addPost(PostDto postDto) {
+
+    try {
+      logger.info("Inserção do novo post: {}", postDto.getTitle());
+
+      validate(postDto);
+
+      Optional<User> user = userRepository.findById(postDto.getUserId());
+
+      if (user.isEmpty()) {
+        throw new CustomNotFoundException("Usuário não encontrado.");
+      }
+
+      Post newPost = new Post(postDto.getTitle(), postDto.getImage(), postDto.getDescription(),
+          postDto.getComments(), postDate(postDto), user.get());
+
+      Post saved = postRepository.save(newPost);
+      responseCache.invalidate();
+      timelineService.published(List.of(saved));
+
+      return saved;
+    } catch (CustomNotFoundException | CustomBadRequestException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (Exception err) {
+      logger.error("Erro inesperado ao tentar inserir um novo post.");
+      throw new CustomUnexpectedException("Erro inesperado ao tentar inserir um novo post.");
+    }
+  }
+
+  @Transactional
+  public String addPosts(Integer userId, List<PostDto> posts) {
+
+    try {
+      logger.info("Inserção de posts em lote para o usuário: {}", userId);
+
+      if (posts == null || posts.isEmpty()) {
+        throw new CustomBadRequestException("Informe ao menos um post.");
+      }
+
+      for (PostDto postDto : posts) {
+        postDto.setUserId(userId);
+        validate(postDto);
+      }
+
+      if (!userRepository.existsById(userId)) {
+        throw new CustomNotFoundException("Usuário não encontrado.");
+      }
+
+      User user = entityManager.getReference(User.class, userId);
+      List<Post> created = new ArrayList<>(posts.size());
+      int pending = 0;
+
+      for (PostDto postDto : posts) {
+        Post newPost = new Post(postDto.getTitle(), postDto.getImage(),
+            postDto.getDescription(), postDto.getComments(), postDate(postDto), user);
+
+        entityManager.persist(newPost);
+        created.add(newPost);
+
+        if (++pending == BATCH_SIZE) {
+          entityManager.flush();
+          entityManager.clear();
+          user = entityManager.getReference(User.class, userId);
+          pending = 0;
+        }
+      }
+
+      responseCache.invalidate();
+      timelineService.published(created);
+
+      return posts.size() + " posts cadastrados com sucesso.";
+    } catch (CustomNotFoundException | CustomBadRequestException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (Exception err) {
+      logger.error("Erro inesperado ao tentar inserir posts em lote.");
+      throw new CustomUnexpectedException("Erro inesperado ao tentar inserir posts em lote.");
+    }
+  }
+
+  public Post postById(Integer id) {
+
+    try {
+      logger.info("Buscando post pelo id.");
+
+      Optional<Post> post = postRepository.findById(id);
+
+      if (post.isEmpty()) {
+        throw new CustomNotFoundException("Post não encontrado.");
+      }
+
+      return post.get();
+    } catch (CustomNotFoundException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (Exception err) {
+      logger.error("Erro inesperado ao tentar buscar determinado post.");
+      throw new CustomUnexpectedException("Erro inesperado ao tentar buscar determinado post.");
+    }
+  }
+
+  public PostPageDto postsByUser(Integer userId, String cursor, Integer limit) {
+
+    try {
+      logger.info("Listando posts do usuário: {}", userId);
+
+      int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : limit;
+
+      if (pageSize <= 0) {
+        throw new CustomBadRequestException("O limite deve ser maior que zero.");
+      }
+
+      pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+      PostResponseDto last = (cursor == null) ? null : decodeCursor(cursor);
+
+      if (!userRepository.existsById(userId)) {
+        throw new CustomNotFoundException("Usuário não encontrado.");
+      }
+
+      List<PostResponseDto> posts = new ArrayList<>(pageSize);
+
+      if (last == null) {
+        posts.addAll(postRepository.findLatestByUserId(userId, PageRequest.of(0, pageSize)));
+      } else if (last.getPostDate() != null) {
+        posts.addAll(postRepository.findByUserIdBefore(userId, last.getPostDate(), last.getId(),
+            PageRequest.of(0, pageSize)));
+      }
+
+      // Terminados os posts com data, a página continua pelos posts sem data em ordem de id.
+      if (posts.size() < pageSize) {
+        int beforeId = (last != null && last.getPostDate() == null)
+            ? last.getId() : Integer.MAX_VALUE;
+
+        posts.addAll(postRepository.findUndatedByUserIdBefore(userId, beforeId,
+            PageRequest.of(0, pageSize - posts.size())));
+      }
+
+      String nextCursor = (posts.size() < pageSize)
+          ? null : encodeCursor(posts.get(posts.size() - 1));
+
+      return new PostPageDto(posts, nextCursor);
+    } catch (CustomNotFoundException | CustomBadRequestException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (Exception err) {
+      logger.error("Erro inesperado ao listar os posts do usuário.");
+      throw new CustomUnexpectedException("Erro inesperado ao listar os posts do usuário.");
+    }
+  }
+
+  @Transactional
+  public Post updatePost(Integer id, PostDto postDto) {
+
+    try {
+      logger.info("Buscando post que será atualizado.");
+
+      Optional<Post> toBeUpdated = postRepository.findById(id);
+
+      if (toBeUpdated.isEmpty()) {
+        throw new CustomNotFoundException("Post não encontrado.");
+      }
+
+      if (postDto.getTitle() == null || postDto.getTitle().isEmpty()) {
+        throw new CustomBadRequestException("Informe o título.");
+      }
+
+      LocalDateTime postDate = postDate(postDto);
+
+      toBeUpdated.get().setTitle(postDto.getTitle());
+      toBeUpdated.get().setImage(postDto.getImage());
+      toBeUpdated.get().setDescription(postDto.getDescription());
+      toBeUpdated.get().setComments(postDto.getComments());
+      toBeUpdated.get().setPostDate(postDate);
+
+      postRepository.save(toBeUpdated.get());
+      responseCache.invalidate();
+      timelineService.updated(toBeUpdated.get());
+
+      return toBeUpdated.get();
+    } catch (CustomNotFoundException | CustomBadRequestException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (Exception err) {
+      logger.error("Erro inesperado ao tentar atualizar determinado post.");
+      throw new CustomUnexpectedException("Erro inesperado ao tentar atualizar determinado post.");
+    }
+  }
+
+  @Transactional
+  public String removePost(Integer id) {
+
+    try {
+      logger.info("Buscando post que será removido.");
+
+      Optional<Post> toBeRemoved = postRepository.findById(id);
+
+      if (toBeRemoved.isEmpty()) {
+        throw new CustomNotFoundException("Post não encontrado.");
+      }
+
+      postRepository.delete(toBeRemoved.get());
+      responseCache.invalidate();
+      timelineService.removed(id);
+
+      return "Post " + toBeRemoved.get().getTitle() + " removido.";
+    } catch (CustomNotFoundException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (Exception err) {
+      logger.error("Erro inesperado ao tentar remover determinado post.");
+      throw new CustomUnexpectedException("Erro inesperado ao tentar remover determinado post.");
+    }
+  }
+
+  private void validate(PostDto postDto) {
+
+    if (postDto.getUserId() == null) {
+      throw new CustomBadRequestException("Informe o usuário.");
+    }
+
+    if (postDto.getTitle() == null || postDto.getTitle().isEmpty()) {
+      throw new CustomBadRequestException("Informe o título.");
+    }
+
+    postDate(postDto);
+  }
+
+  private LocalDateTime postDate(PostDto postDto) {
+
+    LocalDateTime postDate = PostDates.parse(postDto.getPostDate());
+
+    if (postDate == null && postDto.getPostDate() != null && !postDto.getPostDate().isBlank()) {
+      throw new CustomBadRequestException("Data do post inválida.");
+    }
+
+    return postDate;
+  }
+
+  // Cursor opaco com a data e o id do último post da página ("|id" para posts sem data).
+  private String encodeCursor(PostResponseDto post) {
+
+    String postDate = (post.getPostDate() == null) ? "" : post.getPostDate().toString();
+
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((postDate + "|" + post.getId()).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private PostResponseDto decodeCursor(String cursor) {
+
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = value.indexOf('|');
+
+      PostResponseDto post = new PostResponseDto();
+      post.setId(Integer.valueOf(value.substring(separator + 1)));
+      post.setPostDate((separator == 0) ? null : LocalDateTime.parse(value.substring(0, separator)));
+
+      return post;
+    } catch (RuntimeException err) {
+      throw new CustomBadRequestException("Cursor inválido.");
+    }
+  }
+}
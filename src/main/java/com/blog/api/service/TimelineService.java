@@ -0,0 +1,237 @@
+package com.blog.api.service;
+
+import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.dto.PostPageDto;
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.model.Post;
+import com.blog.api.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import javax.annotation.PostConstruct;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Últimos posts publicados em um anel de tamanho fixo: cada escrita reserva uma sequência com
+// getAndIncrement e grava o slot com CAS, e a leitura percorre as sequências de trás para frente.
+@Service
+@Lazy(false)
+public class TimelineService {
+
+  public static final int DEFAULT_PAGE_SIZE = 20;
+
+  public static final int MAX_PAGE_SIZE = 200;
+
+  private final PostRepository postRepository;
+
+  private final AtomicReferenceArray<Slot> slots;
+
+  private final int mask;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private final Logger logger = LogManager.getLogger(TimelineService.class);
+
+  public TimelineService(PostRepository postRepository, MeterRegistry registry,
+                         @Value("${blog-api.timeline.capacity:10000}") int capacity) {
+
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("A capacidade da timeline deve ser maior que zero.");
+    }
+
+    int size = Integer.highestOneBit(capacity - 1) << 1;
+
+    this.postRepository = postRepository;
+    this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+    this.mask = slots.length() - 1;
+
+    Gauge.builder("timeline.slots.used", this, timeline -> timeline.size()).register(registry);
+    Gauge.builder("timeline.capacity", slots, AtomicReferenceArray::length).register(registry);
+  }
+
+  // Roda antes do servidor aceitar requisições, então nenhuma escrita concorre com a carga.
+  @PostConstruct
+  public void warmUp() {
+
+    try {
+      List<PostResponseDto> recent = postRepository.findRecent(PageRequest.of(0, slots.length()));
+
+      for (int i = recent.size() - 1; i >= 0; i--) {
+        publish(recent.get(i));
+      }
+
+      logger.info("Timeline carregada com {} posts.", recent.size());
+    } catch (RuntimeException err) {
+      logger.error("Erro inesperado ao carregar a timeline, iniciando vazia.");
+    }
+  }
+
+  public PostPageDto latest(String cursor, Integer limit) {
+
+    try {
+      return page(cursor, limit);
+    } catch (CustomBadRequestException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    }
+  }
+
+  private PostPageDto page(String cursor, Integer limit) {
+
+    int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : limit;
+
+    if (pageSize <= 0) {
+      throw new CustomBadRequestException("O limite deve ser maior que zero.");
+    }
+
+    pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+    long head = sequence.get();
+    long oldest = Math.max(0, head - slots.length());
+    long current = (cursor == null) ? head - 1 : Math.min(parseCursor(cursor) - 1, head - 1);
+    long last = -1;
+    List<PostResponseDto> posts = new ArrayList<>(pageSize);
+
+    for (; current >= oldest && posts.size() < pageSize; current--) {
+      Slot slot = slots.get(index(current));
+
+      // Slot ainda não gravado, sobrescrito por uma volta mais nova do anel ou removido.
+      if (slot == null || slot.sequence != current || slot.post == null) {
+        continue;
+      }
+
+      posts.add(slot.post);
+      last = current;
+    }
+
+    String nextCursor = (posts.size() == pageSize && current >= oldest)
+        ? String.valueOf(last) : null;
+
+    return new PostPageDto(posts, nextCursor);
+  }
+
+  public void published(Collection<Post> posts) {
+
+    List<PostResponseDto> entries = new ArrayList<>(posts.size());
+
+    for (Post post : posts) {
+      entries.add(toEntry(post));
+    }
+
+    afterCommit(() -> entries.forEach(this::publish));
+  }
+
+  public void updated(Post post) {
+
+    PostResponseDto entry = toEntry(post);
+
+    afterCommit(() -> replace(current -> current.getId().equals(entry.getId()), current -> entry));
+  }
+
+  public void removed(Integer postId) {
+
+    afterCommit(() -> replace(current -> current.getId().equals(postId), current -> null));
+  }
+
+  public void userRemoved(Integer userId) {
+
+    afterCommit(() -> replace(current -> userId.equals(current.getUserId()), current -> null));
+  }
+
+  private void publish(PostResponseDto post) {
+
+    long next = sequence.getAndIncrement();
+    int index = index(next);
+    Slot slot = new Slot(next, post);
+    Slot current;
+
+    do {
+      current = slots.get(index);
+
+      // Um escritor de uma volta seguinte já ocupou o slot; este post já saiu da janela.
+      if (current != null && current.sequence > next) {
+        return;
+      }
+    } while (!slots.compareAndSet(index, current, slot));
+  }
+
+  // Edições e remoções percorrem o anel (tamanho fixo) e trocam o slot mantendo a sequência.
+  private void replace(Predicate<PostResponseDto> matches, UnaryOperator<PostResponseDto> change) {
+
+    for (int index = 0; index < slots.length(); index++) {
+      Slot current = slots.get(index);
+
+      while (current != null && current.post != null && matches.test(current.post)
+          && !slots.compareAndSet(index, current,
+              new Slot(current.sequence, change.apply(current.post)))) {
+        current = slots.get(index);
+      }
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private PostResponseDto toEntry(Post post) {
+
+    Integer userId = (post.getUser() == null) ? null : post.getUser().getId();
+
+    return new PostResponseDto(post.getId(), userId, post.getTitle(), post.getImage(),
+        post.getDescription(), post.getComments(), post.getPostDate());
+  }
+
+  private long parseCursor(String cursor) {
+
+    try {
+      return Long.parseLong(cursor);
+    } catch (NumberFormatException err) {
+      throw new CustomBadRequestException("Cursor inválido.");
+    }
+  }
+
+  private int index(long position) {
+
+    return (int) (position & mask);
+  }
+
+  private long size() {
+
+    return Math.min(sequence.get(), slots.length());
+  }
+
+  private static final class Slot {
+
+    private final long sequence;
+
+    private final PostResponseDto post;
+
+    private Slot(long sequence, PostResponseDto post) {
+      this.sequence = sequence;
+      this.post = post;
+    }
+  }
+}
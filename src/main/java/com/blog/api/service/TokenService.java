@@ -0,0 +1,143 @@
+package com.blog.api.service;
+
+import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.dto.TokenDto;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@Lazy(false)
+public class TokenService {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final SecureRandom random = new SecureRandom();
+
+  private final long ttlSeconds;
+
+  private volatile SigningKey currentKey;
+
+  private volatile SigningKey previousKey;
+
+  private final Logger logger = LogManager.getLogger(TokenService.class);
+
+  public TokenService(@Value("${blog-api.token.ttl-seconds:900}") long ttlSeconds) {
+    this.ttlSeconds = ttlSeconds;
+    this.currentKey = newKey(0);
+  }
+
+  @Scheduled(fixedRateString = "${blog-api.token.key-rotation-ms:3600000}",
+      initialDelayString = "${blog-api.token.key-rotation-ms:3600000}")
+  public synchronized void rotateKeys() {
+
+    logger.info("Rotacionando a chave de assinatura dos tokens.");
+
+    previousKey = currentKey;
+    currentKey = newKey(currentKey.id + 1);
+  }
+
+  public TokenDto issue(Integer userId) {
+
+    SigningKey key = currentKey;
+    long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+    String payload = userId + ":" + expiresAt + ":" + key.id;
+    String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+    return new TokenDto(encodedPayload + "." + ENCODER.encodeToString(sign(key, encodedPayload)),
+        expiresAt);
+  }
+
+  public Optional<Integer> verify(String token) {
+
+    try {
+      int separator = token.indexOf('.');
+
+      if (separator <= 0) {
+        return Optional.empty();
+      }
+
+      String encodedPayload = token.substring(0, separator);
+      String[] payload = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8)
+          .split(":");
+
+      if (payload.length != 3) {
+        return Optional.empty();
+      }
+
+      SigningKey key = keyById(Integer.parseInt(payload[2]));
+
+      if (key == null || !MessageDigest.isEqual(sign(key, encodedPayload),
+          DECODER.decode(token.substring(separator + 1)))) {
+        return Optional.empty();
+      }
+
+      if (Long.parseLong(payload[1]) <= System.currentTimeMillis() / 1000) {
+        return Optional.empty();
+      }
+
+      return Optional.of(Integer.valueOf(payload[0]));
+    } catch (IllegalArgumentException err) {
+      return Optional.empty();
+    }
+  }
+
+  private SigningKey keyById(int id) {
+
+    SigningKey current = currentKey;
+    SigningKey previous = previousKey;
+
+    if (current.id == id) {
+      return current;
+    }
+
+    return (previous != null && previous.id == id) ? previous : null;
+  }
+
+  private byte[] sign(SigningKey key, String encodedPayload) {
+
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key.secret);
+      return mac.doFinal(encodedPayload.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException err) {
+      logger.error("Erro inesperado ao assinar o token.");
+      throw new CustomUnexpectedException("Erro inesperado ao assinar o token.");
+    }
+  }
+
+  private SigningKey newKey(int id) {
+
+    byte[] secret = new byte[32];
+    random.nextBytes(secret);
+
+    return new SigningKey(id, new SecretKeySpec(secret, ALGORITHM));
+  }
+
+  private static final class SigningKey {
+
+    private final int id;
+
+    private final SecretKeySpec secret;
+
+    private SigningKey(int id, SecretKeySpec secret) {
+      this.id = id;
+      this.secret = secret;
+    }
+  }
+}
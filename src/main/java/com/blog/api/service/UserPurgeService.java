@@ -0,0 +1,78 @@
+package com.blog.api.service;
+
+import com.blog.api.repository.PostRepository;
+import com.blog.api.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@Lazy(false)
+public class UserPurgeService {
+
+  private final UserRepository userRepository;
+
+  private final PostRepository postRepository;
+
+  private final int chunkSize;
+
+  private final int usersPerRun;
+
+  private final Counter purgedUsers;
+
+  private final Counter purgedPosts;
+
+  private final Logger logger = LogManager.getLogger(UserPurgeService.class);
+
+  public UserPurgeService(UserRepository userRepository, PostRepository postRepository,
+                          MeterRegistry registry,
+                          @Value("${blog-api.user-purge.chunk-size:1000}") int chunkSize,
+                          @Value("${blog-api.user-purge.users-per-run:100}") int usersPerRun) {
+    this.userRepository = userRepository;
+    this.postRepository = postRepository;
+    this.chunkSize = chunkSize;
+    this.usersPerRun = usersPerRun;
+    this.purgedUsers = Counter.builder("user.purge.deleted").tag("table", "tb_user")
+        .register(registry);
+    this.purgedPosts = Counter.builder("user.purge.deleted").tag("table", "tb_post")
+        .register(registry);
+  }
+
+  @Scheduled(fixedDelayString = "${blog-api.user-purge.interval-ms:10000}")
+  public void purgeDeleted() {
+
+    List<Integer> ids = userRepository.findDeletedIds(usersPerRun);
+
+    for (Integer id : ids) {
+      try {
+        purge(id);
+      } catch (Exception err) {
+        logger.error("Erro ao remover definitivamente o usuário {}. Nova tentativa na próxima"
+            + " execução.", id, err);
+      }
+    }
+  }
+
+  private void purge(Integer id) {
+
+    long posts = 0;
+    int deleted;
+
+    do {
+      deleted = postRepository.deleteChunkByUserId(id, chunkSize);
+      posts += deleted;
+      purgedPosts.increment(deleted);
+    } while (deleted == chunkSize);
+
+    if (userRepository.purgeDeleted(id) > 0) {
+      purgedUsers.increment();
+      logger.info("Usuário {} removido definitivamente com {} posts.", id, posts);
+    }
+  }
+}
@@ -1,33 +1,81 @@
 package com.blog.api.service;
 
+import com.blog.api.cache.EmailBloomFilter;
+import com.blog.api.cache.ResponseCache;
+import com.blog.api.cache.SingleFlight;
+import com.blog.api.cache.UserCache;
 import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomConflictException;
 import com.blog.api.commons.CustomNotFoundException;
 import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.dto.PostResponseDto;
 import com.blog.api.dto.UserDto;
+import com.blog.api.dto.UserPageDto;
+import com.blog.api.dto.UserResponseDto;
 import com.blog.api.model.User;
+import com.blog.api.repository.PostRepository;
 import com.blog.api.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import javax.transaction.Transactional;
-import org.apache.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed("user.service")
 public class UserService {
 
+  public static final int DEFAULT_PAGE_SIZE = 50;
+
+  public static final int MAX_PAGE_SIZE = 500;
+
+  private static final String ACTIVE_EMAIL_INDEX = "ux_user_active_email";
+
   private UserRepository userRepository;
 
-  private final Logger logger = Logger.getLogger(UserService.class);
+  private PostRepository postRepository;
+
+  private EmailBloomFilter emailFilter;
+
+  private UserCache userCache;
+
+  private ResponseCache responseCache;
+
+  private SingleFlight<Integer, Optional<UserResponseDto>> userLoads;
 
-  public UserService(UserRepository userRepository) {
+  private TimelineService timelineService;
+
+  private final Logger logger = LogManager.getLogger(UserService.class);
+
+  public UserService(UserRepository userRepository, PostRepository postRepository,
+                     EmailBloomFilter emailFilter, UserCache userCache,
+                     ResponseCache responseCache,
+                     SingleFlight<Integer, Optional<UserResponseDto>> userLoads,
+                     TimelineService timelineService) {
     this.userRepository = userRepository;
+    this.postRepository = postRepository;
+    this.emailFilter = emailFilter;
+    this.userCache = userCache;
+    this.responseCache = responseCache;
+    this.userLoads = userLoads;
+    this.timelineService = timelineService;
   }
 
   @Transactional
   public String addUser(UserDto userDto) {
 
     try {
-      logger.info("Inserção do novo usuário: " + userDto.getUsername());
+      logger.info("Inserção do novo usuário: {}", userDto.getUsername());
 
       if (userDto.getUsername().isEmpty()) {
         throw new CustomBadRequestException("Informe o nome de usuário.");
@@ -37,7 +85,7 @@ public class UserService {
         throw new CustomBadRequestException("Informe o email.");
       }
 
-      if (this.userRepository.existsByEmail(userDto.getEmail())) {
+      if (emailInUse(userDto.getEmail())) {
         throw new CustomBadRequestException("Existe um usuário cadastrado com este email.");
       }
 
@@ -47,11 +95,22 @@ public class UserService {
 
       User newUser = new User(userDto.getUsername(), userDto.getEmail(), userDto.getPassword());
 
-      this.userRepository.save(newUser);
+      this.userRepository.saveAndFlush(newUser);
+      this.emailFilter.put(newUser.getEmail());
+      this.responseCache.invalidate();
 
       return "Usuário " + userDto.getUsername() + " cadastrado com sucesso.";
+    } catch (DataIntegrityViolationException err) {
+      if (!duplicatedEmail(err)) {
+        logger.error("Erro inesperado ao tentar inserir um novo usuário.");
+        throw new CustomUnexpectedException("Erro inesperado ao tentar inserir um novo usuário.");
+      }
+
+      // Cadastro concorrente com o mesmo email barrado pelo índice único.
+      logger.error("Error message: Existe um usuário cadastrado com este email.");
+      throw new CustomBadRequestException("Existe um usuário cadastrado com este email.");
     } catch (CustomBadRequestException err) {
-      logger.error("Error message: " + err.getMessage());
+      logger.error("Error message: {}", err.getMessage());
       throw err;
     } catch (Exception err) {
       logger.error("Erro inesperado ao tentar inserir um novo usuário.");
@@ -59,20 +118,39 @@ public class UserService {
     }
   }
 
-  public List<User> listUsers() {
+  public UserPageDto listUsers(Integer after, Integer limit, boolean includePosts) {
 
     try {
       logger.info("Pedido para listar os usuários cadastrados.");
 
-      List<User> allUsers = this.userRepository.findAll();
+      int cursor = (after == null) ? 0 : after;
+      int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : limit;
+
+      if (pageSize <= 0) {
+        throw new CustomBadRequestException("O limite deve ser maior que zero.");
+      }
+
+      pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
 
-      if (allUsers.isEmpty()) {
+      List<UserResponseDto> users = this.userRepository.findPageAfter(cursor,
+          PageRequest.of(0, pageSize));
+
+      if (users.isEmpty() && after == null) {
         throw new CustomNotFoundException("Nenhum usuário foi encontrado.");
       }
 
-      return allUsers;
+      if (includePosts && !users.isEmpty()) {
+        attachPosts(users);
+      }
+
+      Integer nextCursor = (users.size() < pageSize) ? null : users.get(users.size() - 1).getId();
+
+      return new UserPageDto(users, nextCursor);
     } catch (CustomNotFoundException err) {
-      logger.info("Info message: " + err.getMessage());
+      logger.info("Info message: {}", err.getMessage());
+      throw err;
+    } catch (CustomBadRequestException err) {
+      logger.error("Error message: {}", err.getMessage());
       throw err;
     } catch (Exception err) {
       logger.error("Erro inesperado ao listar usuários cadastrados.");
@@ -80,12 +158,23 @@ public class UserService {
     }
   }
 
-  public User userById(Integer id) {
+  public UserResponseDto userById(Integer id) {
 
     try {
       logger.info("Buscando usuário pelo id.");
 
-      Optional<User> user = userRepository.findById(id);
+      Optional<UserResponseDto> user = userCache.get(id);
+
+      if (user.isEmpty()) {
+        user = userLoads.load(id, () -> {
+          // Geração lida antes da consulta: uma invalidação no meio descarta o put.
+          long generation = userCache.generation();
+          Optional<UserResponseDto> loaded = userRepository.findById(id)
+              .map(UserResponseDto::fromUser);
+          loaded.ifPresent(found -> userCache.put(found, generation));
+          return loaded;
+        });
+      }
 
       if (user.isEmpty()) {
         throw new CustomNotFoundException("Usuário não encontrado.");
@@ -93,7 +182,7 @@ public class UserService {
 
       return user.get();
     } catch (CustomNotFoundException err) {
-      logger.error("Error message: " + err.getMessage());
+      logger.error("Error message: {}", err.getMessage());
       throw err;
     } catch (Exception err) {
       logger.error("Erro inesperado ao tentar buscar determinado usuário.");
@@ -101,6 +190,61 @@ public class UserService {
     }
   }
 
+  public Optional<Integer> userVersion(Integer id) {
+
+    Optional<UserResponseDto> cached = userCache.get(id);
+
+    if (cached.isPresent()) {
+      return cached.map(UserResponseDto::getVersion);
+    }
+
+    return userRepository.findVersionById(id);
+  }
+
+  public UserResponseDto userDetails(Integer id, boolean includePosts) {
+
+    UserResponseDto found = userById(id);
+
+    // Cópia própria: o resultado de userById é compartilhado entre as chamadas da mesma carga.
+    UserResponseDto user = new UserResponseDto(found.getId(), found.getUsername(),
+        found.getEmail(), found.getVersion());
+
+    if (includePosts) {
+      attachPosts(List.of(user));
+    }
+
+    return user;
+  }
+
+  public boolean emailInUse(String email) {
+
+    if (!emailFilter.mightContain(email)) {
+      return false;
+    }
+
+    boolean exists = userRepository.existsByEmail(email);
+
+    if (!exists) {
+      emailFilter.recordFalsePositive();
+    }
+
+    return exists;
+  }
+
+  private void attachPosts(List<UserResponseDto> users) {
+
+    Map<Integer, UserResponseDto> byId = new HashMap<>();
+
+    for (UserResponseDto user : users) {
+      user.setPosts(new ArrayList<>());
+      byId.put(user.getId(), user);
+    }
+
+    for (PostResponseDto post : postRepository.findByUserIds(byId.keySet())) {
+      byId.get(post.getUserId()).getPosts().add(post);
+    }
+  }
+
   @Transactional
   public User updateUser(Integer id, UserDto userDto) {
 
@@ -121,7 +265,8 @@ public class UserService {
         throw new CustomBadRequestException("Informe o email.");
       }
 
-      if (this.userRepository.existsByEmail(userDto.getEmail())) {
+      if (!userDto.getEmail().equals(toBeUpdated.get().getEmail())
+          && emailInUse(userDto.getEmail())) {
         throw new CustomBadRequestException("Existe um usuário cadastrado com este email.");
       }
 
@@ -129,18 +274,37 @@ public class UserService {
         throw new CustomBadRequestException("Informe o password.");
       }
 
+      String previousEmail = toBeUpdated.get().getEmail();
+
       toBeUpdated.get().setUsername(userDto.getUsername());
       toBeUpdated.get().setEmail(userDto.getEmail());
       toBeUpdated.get().setPassword(userDto.getPassword());
 
-      userRepository.save(toBeUpdated.get());
+      userRepository.saveAndFlush(toBeUpdated.get());
+      userCache.invalidate(id);
+      responseCache.invalidate();
+
+      emailFilter.put(userDto.getEmail());
+
+      if (!userDto.getEmail().equals(previousEmail)) {
+        emailFilter.remove(previousEmail);
+      }
 
       return toBeUpdated.get();
+    } catch (DataIntegrityViolationException err) {
+      if (!duplicatedEmail(err)) {
+        logger.error("Erro inesperado ao tentar atualizar determinado usuário.");
+        throw new CustomUnexpectedException(
+            "Erro inesperado ao tentar atualizar determinado usuário.");
+      }
+
+      logger.error("Error message: Existe um usuário cadastrado com este email.");
+      throw new CustomBadRequestException("Existe um usuário cadastrado com este email.");
     } catch (CustomNotFoundException err) {
-      logger.error("Error message: " + err.getMessage());
+      logger.error("Error message: {}", err.getMessage());
       throw err;
     } catch (CustomBadRequestException err) {
-      logger.error("Error message: " + err.getMessage());
+      logger.error("Error message: {}", err.getMessage());
       throw err;
     } catch (CustomUnexpectedException err) {
       logger.error("Erro inesperado ao tentar atualizar determinado usuário.");
@@ -149,6 +313,89 @@ public class UserService {
     }
   }
 
+  @Transactional
+  public User patchUser(Integer id, UserDto userDto) {
+
+    try {
+      logger.info("Buscando usuário que será atualizado parcialmente.");
+
+      Optional<User> toBeUpdated = userRepository.findById(id);
+
+      if (toBeUpdated.isEmpty()) {
+        throw new CustomNotFoundException("Usuário não encontrado.");
+      }
+
+      User user = toBeUpdated.get();
+
+      if (userDto.getVersion() != null && !userDto.getVersion().equals(user.getVersion())) {
+        throw new CustomConflictException("O registro foi alterado por outra requisição.");
+      }
+
+      String previousEmail = user.getEmail();
+
+      if (userDto.getUsername() != null) {
+        if (userDto.getUsername().isEmpty()) {
+          throw new CustomBadRequestException("Informe o nome de usuário.");
+        }
+
+        user.setUsername(userDto.getUsername());
+      }
+
+      if (userDto.getEmail() != null && !userDto.getEmail().equals(previousEmail)) {
+        if (userDto.getEmail().isEmpty()) {
+          throw new CustomBadRequestException("Informe o email.");
+        }
+
+        if (emailInUse(userDto.getEmail())) {
+          throw new CustomBadRequestException("Existe um usuário cadastrado com este email.");
+        }
+
+        user.setEmail(userDto.getEmail());
+      }
+
+      if (userDto.getPassword() != null) {
+        if (userDto.getPassword().isEmpty()) {
+          throw new CustomBadRequestException("Informe o password.");
+        }
+
+        user.setPassword(userDto.getPassword());
+      }
+
+      userRepository.saveAndFlush(user);
+      userCache.invalidate(id);
+      responseCache.invalidate();
+
+      if (!user.getEmail().equals(previousEmail)) {
+        emailFilter.put(user.getEmail());
+        emailFilter.remove(previousEmail);
+      }
+
+      return user;
+    } catch (DataIntegrityViolationException err) {
+      if (!duplicatedEmail(err)) {
+        logger.error("Erro inesperado ao tentar atualizar determinado usuário.");
+        throw new CustomUnexpectedException(
+            "Erro inesperado ao tentar atualizar determinado usuário.");
+      }
+
+      logger.error("Error message: Existe um usuário cadastrado com este email.");
+      throw new CustomBadRequestException("Existe um usuário cadastrado com este email.");
+    } catch (ObjectOptimisticLockingFailureException err) {
+      logger.error("Error message: O registro foi alterado por outra requisição.");
+      throw new CustomConflictException("O registro foi alterado por outra requisição.");
+    } catch (CustomNotFoundException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (CustomBadRequestException | CustomConflictException err) {
+      logger.error("Error message: {}", err.getMessage());
+      throw err;
+    } catch (Exception err) {
+      logger.error("Erro inesperado ao tentar atualizar determinado usuário.");
+      throw new CustomUnexpectedException(
+          "Erro inesperado ao tentar atualizar determinado usuário.");
+    }
+  }
+
   public String removeUser(Integer id) {
 
     try {
@@ -160,11 +407,18 @@ public class UserService {
         throw new CustomNotFoundException("Usuário não encontrado.");
       }
 
-      userRepository.deleteById(id);
+      if (userRepository.markDeleted(id) == 0) {
+        throw new CustomNotFoundException("Usuário não encontrado.");
+      }
+
+      userCache.invalidate(id);
+      responseCache.invalidate();
+      emailFilter.remove(toBeRemoved.get().getEmail());
+      timelineService.userRemoved(id);
 
       return "Usuário " + toBeRemoved.get().getUsername() + " removido.";
     } catch (CustomNotFoundException err) {
-      logger.error("Error message: " + err.getMessage());
+      logger.error("Error message: {}", err.getMessage());
       throw err;
     } catch (CustomUnexpectedException err) {
       logger.error("Erro inesperado ao tentar remover determinado usuário.");
@@ -172,4 +426,19 @@ public class UserService {
           "Erro inesperado ao tentar remover determinado usuário.");
     }
   }
+
+  // Só a violação do índice de email ativo vira erro de validação.
+  public static boolean duplicatedEmail(Throwable err) {
+
+    for (Throwable cause = err; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException) {
+        String constraint = ((ConstraintViolationException) cause).getConstraintName();
+
+        return constraint != null
+            && constraint.toLowerCase(Locale.ROOT).contains(ACTIVE_EMAIL_INDEX);
+      }
+    }
+
+    return false;
+  }
 }
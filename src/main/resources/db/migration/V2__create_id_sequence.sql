@@ -0,0 +1,21 @@
+-- Ids alocados em blocos pelo TableGenerator do Hibernate (guarda o próximo valor a entregar)
+create table if not exists tb_sequence (
+    seq_name varchar(255) not null,
+    next_val bigint,
+    primary key (seq_name)
+);
+
+insert into tb_sequence (seq_name, next_val)
+select 'tb_user', t.next_val from (select coalesce(max(id), 0) + 1 as next_val from tb_user) t
+where not exists (select 1 from tb_sequence where seq_name = 'tb_user');
+
+insert into tb_sequence (seq_name, next_val)
+select 'tb_post', t.next_val from (select coalesce(max(id), 0) + 1 as next_val from tb_post) t
+where not exists (select 1 from tb_sequence where seq_name = 'tb_post');
+
+-- O antigo data.sql semeava com o maior id já usado, que o primeiro bloco entregaria de novo
+update tb_sequence set next_val = (select coalesce(max(id), 0) + 1 from tb_user)
+where seq_name = 'tb_user' and next_val <= (select coalesce(max(id), 0) from tb_user);
+
+update tb_sequence set next_val = (select coalesce(max(id), 0) + 1 from tb_post)
+where seq_name = 'tb_post' and next_val <= (select coalesce(max(id), 0) from tb_post);
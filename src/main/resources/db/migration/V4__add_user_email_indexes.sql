@@ -0,0 +1,9 @@
+-- Busca por email no cadastro e no login
+create index ix_user_email on tb_user (email);
+
+-- Email único entre os usuários ativos: os removidos (ainda não expurgados) ficam com null,
+-- que não conflita no índice único, e o email pode ser reutilizado imediatamente
+alter table tb_user add column active_email varchar(255)
+    generated always as (case when deleted then null else email end);
+
+create unique index ux_user_active_email on tb_user (active_email);
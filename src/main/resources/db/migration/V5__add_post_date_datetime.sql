@@ -0,0 +1,3 @@
+-- Coluna nova ao lado da antiga (adição instantânea no InnoDB); preenchida pela V6 em blocos.
+-- DATETIME e não TIMESTAMP: cobre os anos 1000 a 9999 e não é convertida pelo fuso da sessão
+alter table tb_post add column post_date_ts datetime null;
@@ -0,0 +1,7 @@
+-- O texto original fica em post_date_text para conferência das datas que não foram convertidas
+alter table tb_post rename column post_date to post_date_text;
+
+alter table tb_post rename column post_date_ts to post_date;
+
+-- Posts de um usuário em ordem de data (o id entra implicitamente como desempate no InnoDB)
+create index ix_post_user_date on tb_post (user_id, post_date);
@@ -0,0 +1,250 @@
+package com.blog.api.startup;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Cada medição sobe um processo novo da aplicação (H2 em memória) e conta o tempo entre o
+// lançamento da JVM e a primeira resposta de um endpoint real (banco vazio: 404 sem erro 5xx).
+public class StartupBenchmark {
+
+  private static final String FIRST_REQUEST = "/blog-api?limit=1";
+
+  private static final List<String> TRAINING_REQUESTS = Arrays.asList(FIRST_REQUEST,
+      "/blog-api/1", "/blog-api/1?include=posts", "/blog-api/validate", "/actuator/health",
+      "/actuator/prometheus");
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(1))
+      .build();
+
+  private final String appClasspath;
+
+  private final Path archive;
+
+  private final Path outputDir;
+
+  private StartupBenchmark(String appClasspath, Path archive, Path outputDir) {
+    this.appClasspath = appClasspath;
+    this.archive = archive;
+    this.outputDir = outputDir;
+  }
+
+  public static void main(String[] args) throws Exception {
+
+    String appClasspath = System.getProperty("startup.app-classpath");
+
+    if (appClasspath == null || appClasspath.isEmpty()) {
+      throw new IllegalArgumentException("Informe o classpath da aplicação em"
+          + " -Dstartup.app-classpath.");
+    }
+
+    Path outputDir = Paths.get(System.getProperty("startup.output-dir", "build/startup"));
+    Path archive = Paths.get(System.getProperty("startup.cds-archive",
+        outputDir.resolve("app.jsa").toString()));
+
+    Files.createDirectories(outputDir);
+
+    StartupBenchmark benchmark = new StartupBenchmark(appClasspath, archive, outputDir);
+
+    if (args.length > 0 && "train".equals(args[0])) {
+      benchmark.train();
+      return;
+    }
+
+    int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+    Map<StartupMode, List<Long>> results = new LinkedHashMap<>();
+
+    for (String name : System.getProperty("startup.modes",
+        "default,fast-startup,fast-startup-cds").split(",")) {
+      StartupMode mode = StartupMode.parse(name);
+
+      if (mode.isCds() && !Files.exists(archive)) {
+        System.out.println("Arquivo CDS não encontrado em " + archive + ", modo "
+            + mode.getName() + " ignorado (rode ./gradlew startupCdsArchive).");
+        continue;
+      }
+
+      List<Long> millis = new ArrayList<>(runs);
+
+      for (int run = 1; run <= runs; run++) {
+        millis.add(benchmark.measure(mode, run));
+        System.out.printf(Locale.ROOT, "%-18s execução %d: %d ms%n", mode.getName(), run,
+            millis.get(millis.size() - 1));
+      }
+
+      results.put(mode, millis);
+    }
+
+    report(results);
+  }
+
+  private long measure(StartupMode mode, int run) throws IOException, InterruptedException {
+
+    int port = freePort();
+    List<String> command = command(mode, port);
+
+    if (mode.isCds()) {
+      command.add(1, "-XX:SharedArchiveFile=" + archive);
+    }
+
+    long start = System.nanoTime();
+    Process process = start(command, mode.getName() + "-" + run + ".log");
+
+    try {
+      awaitFirstResponse(process, port);
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    } finally {
+      stop(process);
+    }
+  }
+
+  // Sobe com -XX:ArchiveClassesAtExit, exercita os endpoints principais e encerra com SIGTERM;
+  // a JVM grava o arquivo com as classes carregadas ao sair.
+  private void train() throws IOException, InterruptedException {
+
+    int port = freePort();
+    List<String> command = command(StartupMode.FAST_STARTUP_CDS, port);
+
+    Files.deleteIfExists(archive);
+    command.add(1, "-XX:ArchiveClassesAtExit=" + archive);
+
+    Process process = start(command, "cds-training.log");
+
+    try {
+      awaitFirstResponse(process, port);
+
+      for (String path : TRAINING_REQUESTS) {
+        send(port, path);
+      }
+    } finally {
+      stop(process);
+    }
+
+    if (!Files.exists(archive)) {
+      throw new IllegalStateException("A JVM não gerou o arquivo CDS; veja "
+          + outputDir.resolve("cds-training.log"));
+    }
+
+    System.out.printf(Locale.ROOT, "Arquivo CDS gerado em %s (%d KB)%n", archive,
+        Files.size(archive) / 1024);
+  }
+
+  private List<String> command(StartupMode mode, int port) {
+
+    List<String> command = new ArrayList<>(Arrays.asList(
+        Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+        "-cp", appClasspath,
+        "com.blog.api.ApiApplication",
+        "--server.port=" + port,
+        "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+
+    if (mode.getProfile() != null) {
+      command.add("--spring.profiles.active=" + mode.getProfile());
+    }
+
+    return command;
+  }
+
+  private Process start(List<String> command, String logName) throws IOException {
+
+    return new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(outputDir.resolve(logName).toFile())
+        .start();
+  }
+
+  private void awaitFirstResponse(Process process, int port) throws InterruptedException {
+
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("A aplicação terminou durante a subida (código "
+            + process.exitValue() + ").");
+      }
+
+      try {
+        if (send(port, FIRST_REQUEST) < 500) {
+          return;
+        }
+      } catch (IOException err) {
+        // Servidor ainda não está aceitando conexões.
+      }
+
+      Thread.sleep(5);
+    }
+
+    throw new IllegalStateException("A aplicação não respondeu em " + STARTUP_TIMEOUT + ".");
+  }
+
+  private int send(int port, String path) throws IOException, InterruptedException {
+
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .timeout(Duration.ofSeconds(30))
+        .build();
+
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private static void stop(Process process) throws InterruptedException {
+
+    process.destroy();
+
+    if (!process.waitFor(30, TimeUnit.SECONDS)) {
+      process.destroyForcibly().waitFor();
+    }
+  }
+
+  private static int freePort() throws IOException {
+
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static void report(Map<StartupMode, List<Long>> results) {
+
+    PrintStream out = System.out;
+    double baseline = -1;
+
+    out.printf(Locale.ROOT, "%nTempo até a primeira resposta (%s)%n", FIRST_REQUEST);
+    out.printf(Locale.ROOT, "%-18s %9s %11s %9s %10s%n", "Modo", "min ms", "mediana ms",
+        "max ms", "vs 1º modo");
+
+    for (Map.Entry<StartupMode, List<Long>> entry : results.entrySet()) {
+      List<Long> millis = new ArrayList<>(entry.getValue());
+      millis.sort(null);
+
+      long median = millis.get(millis.size() / 2);
+
+      if (baseline < 0) {
+        baseline = median;
+      }
+
+      out.printf(Locale.ROOT, "%-18s %9d %11d %9d %+9.1f%%%n", entry.getKey().getName(),
+          millis.get(0), median, millis.get(millis.size() - 1),
+          (median / baseline - 1.0) * 100.0);
+    }
+  }
+}
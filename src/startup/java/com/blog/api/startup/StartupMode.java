@@ -0,0 +1,36 @@
+package com.blog.api.startup;
+
+import java.util.Locale;
+
+public enum StartupMode {
+
+  DEFAULT(null, false),
+  FAST_STARTUP("fast-startup", false),
+  FAST_STARTUP_CDS("fast-startup", true);
+
+  private final String profile;
+
+  private final boolean cds;
+
+  StartupMode(String profile, boolean cds) {
+    this.profile = profile;
+    this.cds = cds;
+  }
+
+  public static StartupMode parse(String name) {
+
+    return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+  }
+
+  public String getName() {
+    return name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+
+  public String getProfile() {
+    return profile;
+  }
+
+  public boolean isCds() {
+    return cds;
+  }
+}
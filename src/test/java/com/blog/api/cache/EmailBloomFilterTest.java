@@ -0,0 +1,108 @@
+package com.blog.api.cache;
+
+import com.blog.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EmailBloomFilterTest {
+
+  private EmailBloomFilter newFilter(UserRepository userRepository) {
+    return new EmailBloomFilter(userRepository, mock(PlatformTransactionManager.class),
+        new SimpleMeterRegistry(), 10000, 0.01, 0.2);
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se o filtro ainda não construído delega a verificação ao banco.")
+  void notBuiltYet() {
+    EmailBloomFilter filter = newFilter(mock(UserRepository.class));
+
+    assertTrue(filter.mightContain("newUserEmail"));
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se emails cadastrados nunca geram falso negativo.")
+  void noFalseNegatives() {
+    UserRepository userRepository = mock(UserRepository.class);
+
+    when(userRepository.streamAllEmails())
+        .thenReturn(IntStream.range(0, 5000).mapToObj(i -> "user" + i + "@blog.com"));
+
+    EmailBloomFilter filter = newFilter(userRepository);
+    filter.rebuild();
+    filter.put("newUserEmail");
+
+    IntStream.range(0, 5000).forEach(i -> assertTrue(filter.mightContain("user" + i + "@blog.com")));
+    assertTrue(filter.mightContain("newUserEmail"));
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se a taxa de falsos positivos respeita o valor configurado.")
+  void falsePositiveRate() {
+    UserRepository userRepository = mock(UserRepository.class);
+
+    when(userRepository.streamAllEmails())
+        .thenReturn(IntStream.range(0, 10000).mapToObj(i -> "user" + i + "@blog.com"));
+
+    EmailBloomFilter filter = newFilter(userRepository);
+    filter.rebuild();
+
+    long falsePositives = IntStream.range(0, 10000)
+        .filter(i -> filter.mightContain("other" + i + "@blog.com")).count();
+
+    assertTrue(falsePositives < 300, "falsos positivos: " + falsePositives);
+    assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se emails equivalentes no banco são tratados como iguais pelo filtro.")
+  void normalization() {
+    UserRepository userRepository = mock(UserRepository.class);
+
+    when(userRepository.streamAllEmails()).thenReturn(Stream.of("José@Blog.com"));
+
+    EmailBloomFilter filter = newFilter(userRepository);
+    filter.rebuild();
+
+    assertTrue(filter.mightContain("jose@blog.com "));
+    assertFalse(filter.mightContain("maria@blog.com"));
+  }
+
+  @Test
+  @DisplayName("05 - Verifica se o email gravado durante uma reconstrução chega ao filtro após o commit.")
+  void putAfterCommit() {
+    UserRepository userRepository = mock(UserRepository.class);
+
+    when(userRepository.streamAllEmails()).thenAnswer(invocation -> Stream.empty());
+
+    EmailBloomFilter filter = newFilter(userRepository);
+    filter.rebuild();
+
+    TransactionSynchronizationManager.initSynchronization();
+
+    try {
+      filter.put("newUserEmail");
+
+      // Reconstrução com um snapshot anterior ao commit do novo usuário.
+      filter.rebuild();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertTrue(filter.mightContain("newUserEmail"));
+  }
+}
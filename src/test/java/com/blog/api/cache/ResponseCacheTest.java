@@ -0,0 +1,91 @@
+package com.blog.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ResponseCacheTest {
+
+  private ResponseCache newCache(int gzipMinBytes) {
+    return new ResponseCache(new ObjectMapper(), new SimpleMeterRegistry(), 1024 * 1024, true,
+        gzipMinBytes);
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se a resposta é serializada uma única vez enquanto não há alterações.")
+  void cachedUntilInvalidated() {
+    ResponseCache cache = newCache(1024);
+    AtomicInteger loads = new AtomicInteger();
+
+    CachedResponse first = cache.get("list", () -> List.of(loads.incrementAndGet()));
+    CachedResponse second = cache.get("list", () -> List.of(loads.incrementAndGet()));
+
+    assertSame(first, second);
+    assertEquals("[1]", new String(first.getBody(), StandardCharsets.UTF_8));
+
+    cache.invalidate();
+
+    CachedResponse third = cache.get("list", () -> List.of(loads.incrementAndGet()));
+
+    assertEquals("[2]", new String(third.getBody(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se uma resposta calculada durante uma alteração não é armazenada.")
+  void notStoredWhenInvalidatedWhileLoading() {
+    ResponseCache cache = newCache(1024);
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get("list", () -> {
+      cache.invalidate();
+      return loads.incrementAndGet();
+    });
+    cache.get("list", loads::incrementAndGet);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se a versão compactada corresponde ao corpo serializado.")
+  void gzippedBody() throws Exception {
+    ResponseCache cache = newCache(0);
+
+    CachedResponse response = cache.get("user", () -> List.of("newUser", "newUserEmail"));
+
+    try (GZIPInputStream in = new GZIPInputStream(
+        new ByteArrayInputStream(response.getGzippedBody()))) {
+      assertArrayEquals(response.getBody(), in.readAllBytes());
+    }
+
+    assertNull(newCache(1024).get("user", () -> "small").getGzippedBody());
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se o ETag é calculado pelo conteúdo ou pela função informada.")
+  void etags() {
+    ResponseCache cache = newCache(1024);
+
+    CachedResponse byContent = cache.get("list", () -> List.of(1, 2));
+    CachedResponse byVersion = cache.get("user", () -> "newUser", user -> "\"1-0\"");
+
+    assertEquals(byContent.getEtag(), newCache(1024).get("list", () -> List.of(1, 2)).getEtag());
+    assertEquals("\"1-0\"", byVersion.getEtag());
+    assertSame(byVersion, cache.peek("user"));
+
+    cache.invalidate();
+
+    assertNull(cache.peek("user"));
+  }
+}
@@ -0,0 +1,93 @@
+package com.blog.api.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightTest {
+
+  @Test
+  @DisplayName("01 - Verifica se chamadas simultâneas para a mesma chave executam uma única carga.")
+  void collapsesConcurrentCalls() throws Exception {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SingleFlight<Integer, String> flight = new SingleFlight<>(registry, "users");
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      Future<String> leader = executor.submit(() -> flight.load(1, () -> {
+        loads.incrementAndGet();
+        started.countDown();
+        awaitQuietly(release);
+        return "newUser";
+      }));
+
+      started.await(5, TimeUnit.SECONDS);
+
+      List<Future<String>> followers = new ArrayList<>();
+
+      for (int i = 0; i < 7; i++) {
+        followers.add(executor.submit(() -> flight.load(1, () -> {
+          loads.incrementAndGet();
+          return "other";
+        })));
+      }
+
+      while (registry.get("singleflight.calls").tag("result", "collapsed").counter().count() < 7) {
+        Thread.sleep(5);
+      }
+
+      release.countDown();
+
+      assertEquals("newUser", leader.get(5, TimeUnit.SECONDS));
+
+      for (Future<String> follower : followers) {
+        assertEquals("newUser", follower.get(5, TimeUnit.SECONDS));
+      }
+
+      assertEquals(1, loads.get());
+      assertEquals(1.0, registry.get("singleflight.calls").tag("result", "executed")
+          .counter().count());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se uma nova carga é feita após a anterior terminar, inclusive com erro.")
+  void loadsAgainAfterCompletion() {
+    SingleFlight<Integer, String> flight = new SingleFlight<>(new SimpleMeterRegistry(), "users");
+    IllegalStateException failure = new IllegalStateException("falha");
+
+    IllegalStateException thrown = assertThrows(IllegalStateException.class,
+        () -> flight.load(1, () -> {
+          throw failure;
+        }));
+
+    assertSame(failure, thrown);
+    assertEquals("newUser", flight.load(1, () -> "newUser"));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException err) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
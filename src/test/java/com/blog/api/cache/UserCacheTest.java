@@ -0,0 +1,60 @@
+package com.blog.api.cache;
+
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.dto.UserResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserCacheTest {
+
+  private UserCache newCache() {
+    return new UserCache(new SimpleMeterRegistry(), 100, 300);
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se o usuário armazenado é servido pelo cache até ser invalidado.")
+  void cachedUntilInvalidated() {
+    UserCache cache = newCache();
+
+    cache.put(new UserResponseDto(1, "newUser", "newUserEmail", 0), cache.generation());
+
+    assertEquals("newUserEmail", cache.get(1).get().getEmail());
+
+    cache.invalidate(1);
+
+    assertTrue(cache.get(1).isEmpty());
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se um usuário carregado antes de uma alteração não é armazenado.")
+  void notStoredWhenInvalidatedWhileLoading() {
+    UserCache cache = newCache();
+    long generation = cache.generation();
+
+    cache.invalidate(1);
+    cache.put(new UserResponseDto(1, "newUser", "staleEmail", 0), generation);
+
+    assertTrue(cache.get(1).isEmpty());
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se alterações na cópia devolvida não afetam o cache.")
+  void returnsIndependentCopies() {
+    UserCache cache = newCache();
+    UserResponseDto user = new UserResponseDto(1, "newUser", "newUserEmail", 0);
+
+    cache.put(user, cache.generation());
+    user.setEmail("otherEmail");
+    cache.get(1).get().setPosts(List.of(new PostResponseDto()));
+
+    assertEquals("newUserEmail", cache.get(1).get().getEmail());
+    assertNull(cache.get(1).get().getPosts());
+  }
+}
@@ -0,0 +1,77 @@
+package com.blog.api.controller;
+
+import com.blog.api.commons.BCryptCalibrator;
+import com.blog.api.model.User;
+import com.blog.api.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Aplicação completa sobre H2: o login com hash de custo antigo dispara a atualização em segundo
+// plano, que não pode alterar a versão servida pelo GET nem a esperada pelo PATCH.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:rehash;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "blog-api.r2dbc.url=r2dbc:h2:mem:///rehash?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+    "blog-api.r2dbc.username=sa",
+    "blog-api.r2dbc.password=",
+    "blog-api.bcrypt.strength=5"
+})
+@AutoConfigureMockMvc
+public class PasswordRehashTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Test
+  @DisplayName("01 - Verifica se a atualização do custo da senha no login mantém a versão do usuário.")
+  void rehashKeepsVersion() throws Exception {
+    User user = userRepository.saveAndFlush(
+        new User("ana", "ana@x", new BCryptPasswordEncoder(4).encode("anaPassword")));
+    String etag = "\"" + user.getId() + "-0\"";
+
+    mockMvc.perform(get("/blog-api/" + user.getId()))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+    mockMvc.perform(post("/blog-api/login").contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"ana@x\",\"password\":\"anaPassword\"}"))
+        .andExpect(status().isOk());
+
+    for (int attempt = 0; attempt < 50 && passwordCost(user.getId()) != 5; attempt++) {
+      Thread.sleep(100);
+    }
+
+    assertEquals(5, passwordCost(user.getId()));
+
+    mockMvc.perform(get("/blog-api/" + user.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    mockMvc.perform(patch("/blog-api/" + user.getId()).contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"ana2\",\"version\":0}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.version").value(1));
+  }
+
+  private int passwordCost(Integer id) {
+    return BCryptCalibrator.cost(userRepository.findById(id).get().getPassword());
+  }
+}
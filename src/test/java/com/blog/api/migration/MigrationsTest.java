@@ -0,0 +1,105 @@
+package com.blog.api.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MigrationsTest {
+
+  // Esquema criado pela primeira versão do data.sql, sem tb_sequence nem deleted/version.
+  private static final String LEGACY_SCHEMA =
+      "create table tb_user (id int auto_increment, username varchar(255), email varchar(255),"
+          + " password varchar(255), primary key (id));"
+          + "create table tb_post (id int auto_increment, title varchar(255), image varchar(255),"
+          + " description varchar(400), comments varchar(600), post_date varchar(50),"
+          + " user_id int, primary key (id), foreign key (user_id) references tb_user(id));";
+
+  private String url(String name) {
+    return "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+  }
+
+  private void migrate(String url) {
+    Flyway.configure()
+        .dataSource(url, "sa", "")
+        .locations("classpath:db/migration", "classpath:com/blog/api/migration")
+        .baselineOnMigrate(true)
+        .baselineVersion("1")
+        .load()
+        .migrate();
+  }
+
+  private void execute(String url, String sql) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, "sa", "");
+         Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  private long queryLong(String url, String sql) throws SQLException {
+    try (Connection connection = DriverManager.getConnection(url, "sa", "");
+         Statement statement = connection.createStatement();
+         ResultSet result = statement.executeQuery(sql)) {
+      result.next();
+      return result.getLong(1);
+    }
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se um banco vazio recebe todas as migrações com os ids começando em 1.")
+  void emptyDatabase() throws SQLException {
+    String url = url("empty");
+
+    migrate(url);
+
+    assertEquals(1, queryLong(url, "select next_val from tb_sequence where seq_name = 'tb_user'"));
+    assertEquals(1, queryLong(url, "select next_val from tb_sequence where seq_name = 'tb_post'"));
+    assertEquals(7, queryLong(url, "select max(cast(version as int)) from flyway_schema_history"));
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se o esquema original do data.sql recebe a tabela de ids e as colunas que faltam.")
+  void legacySchema() throws SQLException {
+    String url = url("legacy");
+
+    execute(url, LEGACY_SCHEMA
+        + "insert into tb_user (id, username, email, password) values (1, 'ana', 'ana@x', 'p'),"
+        + " (7, 'bob', 'bob@x', 'p');"
+        + "insert into tb_post (id, title, post_date, user_id) values (3, 'p1', '2022-11-14', 1),"
+        + " (4, 'p2', '2500-01-01', 1), (5, 'p3', '01/01/0999', 7);");
+
+    migrate(url);
+
+    assertEquals(8, queryLong(url, "select next_val from tb_sequence where seq_name = 'tb_user'"));
+    assertEquals(6, queryLong(url, "select next_val from tb_sequence where seq_name = 'tb_post'"));
+    assertEquals(0, queryLong(url, "select count(*) from tb_user where deleted or version <> 0"));
+    assertEquals(2, queryLong(url, "select count(*) from tb_post where post_date is not null"));
+    assertEquals(5, queryLong(url, "select id from tb_post where post_date is null"));
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se a tabela de ids semeada com o maior id pelo data.sql é corrigida.")
+  void legacySequenceSeed() throws SQLException {
+    String url = url("seeded");
+
+    execute(url, LEGACY_SCHEMA
+        + "alter table tb_user add column deleted boolean not null default false;"
+        + "alter table tb_user add column version int not null default 0;"
+        + "create table tb_sequence (seq_name varchar(255) not null, next_val bigint,"
+        + " primary key (seq_name));"
+        + "insert into tb_user (id, username, email, password) values (5, 'ana', 'ana@x', 'p');"
+        + "insert into tb_sequence values ('tb_user', 5), ('tb_post', 0);");
+
+    migrate(url);
+
+    assertEquals(6, queryLong(url, "select next_val from tb_sequence where seq_name = 'tb_user'"));
+    assertEquals(1, queryLong(url, "select next_val from tb_sequence where seq_name = 'tb_post'"));
+  }
+}
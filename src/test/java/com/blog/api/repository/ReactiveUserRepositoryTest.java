@@ -0,0 +1,129 @@
+package com.blog.api.repository;
+
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.dto.UserResponseDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ReactiveUserRepositoryTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private ConnectionPool pool;
+
+  private ReactiveUserRepository reactiveUserRepository;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(
+            "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"))
+        .maxSize(1)
+        .build());
+    reactiveUserRepository = new ReactiveUserRepository(pool);
+
+    DatabaseClient client = DatabaseClient.create(pool);
+
+    Flux.just("create table tb_user (id int primary key, username varchar(255),"
+                + " email varchar(255), deleted boolean default false not null,"
+                + " version int default 0 not null)",
+            "create table tb_post (id int primary key, title varchar(255), image varchar(255),"
+                + " description varchar(400), comments varchar(600), post_date datetime,"
+                + " user_id int)",
+            "insert into tb_user (id, username, email, version) values"
+                + " (1, 'newUser', 'newUser@email.com', 2), (2, 'other', 'other@email.com', 0),"
+                + " (4, 'last', 'last@email.com', 0)",
+            "insert into tb_user (id, username, email, deleted) values"
+                + " (3, 'removed', 'removed@email.com', true)",
+            "insert into tb_post (id, title, post_date, user_id) values"
+                + " (11, 'Second', timestamp '2022-11-15 10:00:00', 1),"
+                + " (10, 'First', timestamp '2022-11-14 09:30:00', 1),"
+                + " (12, 'Other', timestamp '2022-11-16 08:00:00', 2)")
+        .concatMap(sql -> client.sql(sql).then())
+        .blockLast(TIMEOUT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    reactiveUserRepository.close();
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se a busca por id ignora usuários removidos.")
+  void findById() {
+    UserResponseDto user = reactiveUserRepository.findById(1).block(TIMEOUT);
+
+    assertEquals("newUser@email.com", user.getEmail());
+    assertEquals(2, user.getVersion());
+    assertNull(reactiveUserRepository.findById(3).block(TIMEOUT));
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se a listagem e os posts chegam em ordem de id a partir do cursor.")
+  void streamsInIdOrder() {
+    List<UserResponseDto> users = reactiveUserRepository.findAllAfter(1, 50).collectList()
+        .block(TIMEOUT);
+    List<PostResponseDto> posts = reactiveUserRepository.findPostsByUserId(1).collectList()
+        .block(TIMEOUT);
+
+    assertEquals(2, users.size());
+    assertEquals(2, users.get(0).getId());
+    assertEquals(4, users.get(1).getId());
+    assertEquals(2, posts.size());
+    assertEquals("First", posts.get(0).getTitle());
+    assertEquals(LocalDateTime.of(2022, 11, 14, 9, 30), posts.get(0).getPostDate());
+    assertEquals(1, posts.get(1).getUserId());
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se cancelar a leitura sob demanda devolve a conexão ao pool.")
+  void cancelReleasesConnection() {
+    List<UserResponseDto> received = new CopyOnWriteArrayList<>();
+
+    reactiveUserRepository.findAllAfter(0, 50).subscribe(new BaseSubscriber<UserResponseDto>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+        request(1);
+      }
+
+      @Override
+      protected void hookOnNext(UserResponseDto user) {
+        received.add(user);
+        cancel();
+      }
+    });
+
+    // Com um pool de uma conexão, a próxima consulta só termina se o cancelamento a liberou.
+    UserResponseDto user = reactiveUserRepository.findById(4).block(TIMEOUT);
+
+    assertEquals(1, received.size());
+    assertEquals("last", user.getUsername());
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se a listagem para no limite informado.")
+  void stopsAtLimit() {
+    List<UserResponseDto> users = reactiveUserRepository.findAllAfter(0, 2).collectList()
+        .block(TIMEOUT);
+
+    assertEquals(2, users.size());
+    assertEquals(2, users.get(1).getId());
+  }
+}
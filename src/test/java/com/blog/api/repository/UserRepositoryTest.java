@@ -0,0 +1,70 @@
+package com.blog.api.repository;
+
+import com.blog.api.model.Post;
+import com.blog.api.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Banco com linhas anteriores à tb_sequence (ids até 42 nos usuários e 30 nos posts); a
+// inicialização preguiçosa deixa de fora os beans da aplicação que não são de JPA.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:prepopulated;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+    "spring.main.lazy-initialization=true",
+    "spring.flyway.locations=classpath:db/migration,classpath:com/blog/api/migration,"
+        + "classpath:db/legacy"
+})
+public class UserRepositoryTest {
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Test
+  @DisplayName("01 - Verifica se os novos usuários recebem ids acima dos já existentes.")
+  void newUserIdsAfterExistingRows() {
+    List<User> users = new ArrayList<>();
+
+    // Mais que um bloco (increment_size = 50) para passar por duas alocações.
+    for (int i = 0; i < 60; i++) {
+      users.add(new User("user" + i, "user" + i + "@x", "p"));
+    }
+
+    userRepository.saveAllAndFlush(users);
+
+    Set<Integer> ids = new HashSet<>();
+    users.forEach(user -> ids.add(user.getId()));
+
+    assertEquals(43, users.get(0).getId());
+    assertEquals(60, ids.size());
+    assertTrue(ids.stream().allMatch(id -> id > 42));
+    assertEquals(63, userRepository.count());
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se os novos posts recebem ids acima dos já existentes.")
+  void newPostIdsAfterExistingRows() {
+    User user = userRepository.findById(1).get();
+    Post post = new Post("p3", null, null, null, LocalDateTime.of(2022, 11, 16, 0, 0), user);
+
+    postRepository.saveAndFlush(post);
+
+    assertEquals(31, post.getId());
+  }
+}
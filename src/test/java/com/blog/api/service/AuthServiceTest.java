@@ -0,0 +1,117 @@
+package com.blog.api.service;
+
+import com.blog.api.cache.SingleFlight;
+import com.blog.api.commons.CustomUnauthorizedException;
+import com.blog.api.dto.TokenDto;
+import com.blog.api.dto.UserDto;
+import com.blog.api.model.User;
+import com.blog.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private PasswordService passwordService;
+
+  @Mock
+  private TokenService tokenService;
+
+  @Spy
+  private SingleFlight<String, Optional<User>> emailLoads =
+      new SingleFlight<>(new SimpleMeterRegistry(), "emails");
+
+  @InjectMocks
+  private AuthService service;
+
+  private UserDto newUserDto() {
+    UserDto userDto = new UserDto();
+
+    userDto.setEmail("newUserEmail");
+    userDto.setPassword("newUserPassword");
+
+    return userDto;
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se o login com credenciais válidas emite um token.")
+  void login() {
+    User user = new User("newUser", "newUserEmail", "encodedPassword");
+    TokenDto token = new TokenDto("token", 0L);
+
+    when(userRepository.findByEmail("newUserEmail")).thenReturn(Optional.of(user));
+    when(passwordService.matches("newUserPassword", "encodedPassword")).thenReturn(true);
+    when(tokenService.issue(user.getId())).thenReturn(token);
+
+    assertSame(token, service.login(newUserDto()));
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se o login com senha inválida é rejeitado.")
+  void loginWrongPassword() {
+    User user = new User("newUser", "newUserEmail", "encodedPassword");
+
+    when(userRepository.findByEmail("newUserEmail")).thenReturn(Optional.of(user));
+
+    CustomUnauthorizedException thrown = assertThrows(
+      CustomUnauthorizedException.class,
+      () -> service.login(newUserDto()),
+      "Email ou password inválidos."
+    );
+
+    assertTrue(thrown.getMessage().contains("Email ou password inválidos."));
+    verify(tokenService, never()).issue(any());
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se a validação por token não consulta o banco nem o BCrypt.")
+  void validToken() {
+    when(tokenService.verify("token")).thenReturn(Optional.of(1));
+
+    assertTrue(service.isValidToken("token"));
+    verify(userRepository, never()).findByEmail(any());
+    verify(passwordService, never()).matches(any(), any());
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se a validação sem credenciais é rejeitada.")
+  void validateWithoutCredentials() {
+    assertFalse(service.isValid(null));
+    assertFalse(service.isValid(new UserDto()));
+  }
+
+  @Test
+  @DisplayName("05 - Verifica se a senha é recodificada quando o custo do hash está desatualizado.")
+  void rehashOnLogin() {
+    User user = new User("newUser", "newUserEmail", "encodedPassword");
+
+    when(userRepository.findByEmail("newUserEmail")).thenReturn(Optional.of(user));
+    when(passwordService.matches("newUserPassword", "encodedPassword")).thenReturn(true);
+    when(passwordService.needsRehash("encodedPassword")).thenReturn(true);
+
+    assertTrue(service.isValid(newUserDto()));
+    verify(passwordService).rehashInBackground(eq("newUserPassword"), any());
+  }
+}
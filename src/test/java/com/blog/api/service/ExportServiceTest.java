@@ -0,0 +1,84 @@
+package com.blog.api.service;
+
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.model.User;
+import com.blog.api.repository.PostRepository;
+import com.blog.api.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  private ExportService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new ExportService(userRepository, postRepository, entityManager, new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se a exportação gera uma linha JSON por usuário e por post.")
+  void exportAll() {
+    User user = new User("newUser", "newUserEmail", "newUserPassword");
+    ReflectionTestUtils.setField(user, "id", 1);
+
+    PostResponseDto post = new PostResponseDto(7, 1, "title", "image", "description",
+        "comments", LocalDateTime.of(2022, 11, 14, 10, 30));
+
+    when(userRepository.streamAll()).thenReturn(Stream.of(user));
+    when(postRepository.streamAll()).thenReturn(Stream.of(post));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    service.exportAll(out);
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+    assertEquals(2, lines.length);
+    assertEquals("{\"type\":\"user\",\"id\":1,\"username\":\"newUser\",\"email\":\"newUserEmail\"}",
+        lines[0]);
+    assertEquals("{\"type\":\"post\",\"id\":7,\"userId\":1,\"title\":\"title\",\"image\":\"image\","
+        + "\"description\":\"description\",\"comments\":\"comments\",\"postDate\":\"2022-11-14T10:30:00\"}",
+        lines[1]);
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se a senha do usuário não é exportada.")
+  void exportDoesNotLeakPassword() {
+    User user = new User("newUser", "newUserEmail", "newUserPassword");
+    ReflectionTestUtils.setField(user, "id", 1);
+
+    when(userRepository.streamAll()).thenReturn(Stream.of(user));
+    when(postRepository.streamAll()).thenReturn(Stream.empty());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    service.exportAll(out);
+
+    assertFalse(out.toString(StandardCharsets.UTF_8).contains("newUserPassword"));
+  }
+}
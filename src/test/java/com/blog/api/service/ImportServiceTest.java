@@ -0,0 +1,249 @@
+package com.blog.api.service;
+
+import com.blog.api.cache.EmailBloomFilter;
+import com.blog.api.cache.ResponseCache;
+import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomServiceUnavailableException;
+import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.dto.ImportResultDto;
+import com.blog.api.model.Post;
+import com.blog.api.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportServiceTest {
+
+  private static final String HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+  @Mock
+  private UserService userService;
+
+  @Mock
+  private PasswordService passwordService;
+
+  @Mock
+  private EmailBloomFilter emailFilter;
+
+  @Mock
+  private ResponseCache responseCache;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private TimelineService timelineService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private ImportService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new ImportService(userService, passwordService, emailFilter, responseCache,
+        entityManager, timelineService, new ObjectMapper(), transactionManager, 2);
+  }
+
+  private InputStream lines(String... lines) {
+    return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se os usuários e posts são persistidos em blocos.")
+  void importUsersInChunks() {
+    when(passwordService.encodeAll(List.of("rawPassword")))
+        .thenReturn(List.of("$2a$10$encoded"));
+
+    ImportResultDto result = service.importUsers(lines(
+        "{\"username\":\"ana\",\"email\":\"ana@x\",\"password\":\"rawPassword\","
+            + "\"posts\":[{\"title\":\"p1\"},{\"title\":\"p2\"}]}",
+        "{\"username\":\"bob\",\"email\":\"bob@x\",\"password\":\"" + HASH + "\"}",
+        "{\"username\":\"caio\",\"email\":\"caio@x\",\"password\":\"" + HASH + "\"}"));
+
+    ArgumentCaptor<User> users = ArgumentCaptor.forClass(User.class);
+
+    assertEquals(3, result.getUsers());
+    assertEquals(2, result.getPosts());
+    assertEquals(0, result.getSkipped());
+    verify(entityManager, times(3)).persist(users.capture());
+    verify(entityManager, times(2)).flush();
+    verify(entityManager, times(2)).clear();
+    verify(passwordService, times(1)).encodeAll(any());
+    verify(emailFilter).put("caio@x");
+    verify(responseCache).invalidate();
+
+    List<User> persisted = users.getAllValues();
+
+    assertEquals("$2a$10$encoded", persisted.get(0).getPassword());
+    assertEquals(2, persisted.get(0).getPosts().size());
+    assertEquals(persisted.get(0), persisted.get(0).getPosts().get(0).getUser());
+    assertEquals(HASH, persisted.get(1).getPassword());
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se registros inválidos ou com email repetido são ignorados.")
+  void skipInvalidAndDuplicated() {
+    when(userService.emailInUse(any())).thenAnswer(invocation ->
+        "ana@x".equals(invocation.getArgument(0)));
+
+    ImportResultDto result = service.importUsers(lines(
+        "{\"username\":\"bob\",\"email\":\"bob@x\",\"password\":\"" + HASH + "\"}",
+        "{\"username\":\"bob2\",\"email\":\"BOB@x\",\"password\":\"" + HASH + "\"}",
+        "{\"username\":\"ana\",\"email\":\"ana@x\",\"password\":\"" + HASH + "\"}",
+        "{\"username\":\"\",\"email\":\"caio@x\",\"password\":\"" + HASH + "\"}",
+        "{\"username\":\"dani\",\"email\":\"dani@x\",\"password\":\"" + HASH + "\","
+            + "\"posts\":[{\"description\":\"sem título\"}]}"));
+
+    assertEquals(1, result.getUsers());
+    assertEquals(4, result.getSkipped());
+    verify(entityManager, times(1)).persist(any(User.class));
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se conteúdo inválido interrompe a importação.")
+  void malformedContent() {
+    CustomBadRequestException thrown = assertThrows(
+      CustomBadRequestException.class,
+      () -> service.importUsers(lines("{\"username\":")),
+      "Conteúdo inválido na linha 1."
+    );
+
+    assertTrue(thrown.getMessage().contains("Conteúdo inválido na linha 1."));
+    verify(entityManager, never()).persist(any());
+    verify(responseCache, never()).invalidate();
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se o email barrado pelo índice único informa os usuários já importados.")
+  void duplicatedEmailInLaterChunk() {
+    doNothing().doThrow(new PersistenceException(new ConstraintViolationException(
+        "Duplicate entry", new SQLException(), "ux_user_active_email")))
+        .when(entityManager).flush();
+
+    CustomBadRequestException thrown = assertThrows(
+      CustomBadRequestException.class,
+      () -> service.importUsers(lines(
+          "{\"username\":\"ana\",\"email\":\"ana@x\",\"password\":\"" + HASH + "\"}",
+          "{\"username\":\"bob\",\"email\":\"bob@x\",\"password\":\"" + HASH + "\"}",
+          "{\"username\":\"caio\",\"email\":\"caio@x\",\"password\":\"" + HASH + "\"}")),
+      "Usuários importados até aqui: 2."
+    );
+
+    assertTrue(thrown.getMessage().contains("Usuários importados até aqui: 2."));
+    verify(emailFilter, never()).put("caio@x");
+    verify(responseCache).invalidate();
+  }
+
+  @Test
+  @DisplayName("05 - Verifica se uma falha inesperada no banco informa os usuários já importados.")
+  void unexpectedFailureInChunk() {
+    doNothing().doThrow(new PersistenceException("Connection reset"))
+        .when(entityManager).flush();
+
+    CustomUnexpectedException thrown = assertThrows(
+      CustomUnexpectedException.class,
+      () -> service.importUsers(lines(
+          "{\"username\":\"ana\",\"email\":\"ana@x\",\"password\":\"" + HASH + "\"}",
+          "{\"username\":\"bob\",\"email\":\"bob@x\",\"password\":\"" + HASH + "\"}",
+          "{\"username\":\"caio\",\"email\":\"caio@x\",\"password\":\"" + HASH + "\"}")),
+      "Erro inesperado ao importar usuários. Usuários importados até aqui: 2."
+    );
+
+    assertTrue(thrown.getMessage().contains("Usuários importados até aqui: 2."));
+  }
+
+  @Test
+  @DisplayName("06 - Verifica se emails que diferem só por acentos são tratados como repetidos.")
+  void skipAccentVariants() {
+    ImportResultDto result = service.importUsers(lines(
+        "{\"username\":\"jose\",\"email\":\"jose@x\",\"password\":\"" + HASH + "\"}",
+        "{\"username\":\"josé\",\"email\":\"JOSÉ@x \",\"password\":\"" + HASH + "\"}"));
+
+    assertEquals(1, result.getUsers());
+    assertEquals(1, result.getSkipped());
+    verify(entityManager, times(1)).persist(any(User.class));
+  }
+
+  @Test
+  @DisplayName("07 - Verifica se senhas em texto que começam com $2 são codificadas.")
+  void encodePlainPasswordWithHashPrefix() {
+    when(passwordService.encodeAll(List.of("$2secret")))
+        .thenReturn(List.of("$2a$10$encoded"));
+
+    service.importUsers(lines(
+        "{\"username\":\"ana\",\"email\":\"ana@x\",\"password\":\"$2secret\"}"));
+
+    ArgumentCaptor<User> users = ArgumentCaptor.forClass(User.class);
+
+    verify(entityManager).persist(users.capture());
+    assertEquals("$2a$10$encoded", users.getValue().getPassword());
+  }
+
+  @Test
+  @DisplayName("08 - Verifica se a fila de senhas cheia informa os usuários já importados.")
+  void passwordQueueFullInLaterChunk() {
+    when(passwordService.encodeAll(any()))
+        .thenReturn(List.of("$2a$10$encoded", "$2a$10$encoded"))
+        .thenThrow(new CustomServiceUnavailableException(
+            "Servidor ocupado. Tente novamente em instantes."));
+
+    CustomServiceUnavailableException thrown = assertThrows(
+      CustomServiceUnavailableException.class,
+      () -> service.importUsers(lines(
+          "{\"username\":\"ana\",\"email\":\"ana@x\",\"password\":\"anaPassword\"}",
+          "{\"username\":\"bob\",\"email\":\"bob@x\",\"password\":\"bobPassword\"}",
+          "{\"username\":\"caio\",\"email\":\"caio@x\",\"password\":\"caioPassword\"}")),
+      "Usuários importados até aqui: 2."
+    );
+
+    assertTrue(thrown.getMessage().contains("Usuários importados até aqui: 2."));
+    verify(entityManager, times(2)).persist(any(User.class));
+    verify(responseCache).invalidate();
+  }
+
+  @Test
+  @DisplayName("09 - Verifica se os posts importados são publicados na timeline a cada bloco.")
+  void publishImportedPosts() {
+    service.importUsers(lines(
+        "{\"username\":\"ana\",\"email\":\"ana@x\",\"password\":\"" + HASH + "\","
+            + "\"posts\":[{\"title\":\"p1\"},{\"title\":\"p2\"}]}",
+        "{\"username\":\"bob\",\"email\":\"bob@x\",\"password\":\"" + HASH + "\"}",
+        "{\"username\":\"caio\",\"email\":\"caio@x\",\"password\":\"" + HASH + "\","
+            + "\"posts\":[{\"title\":\"p3\"}]}"));
+
+    ArgumentCaptor<List<Post>> posts = ArgumentCaptor.forClass(List.class);
+
+    verify(timelineService, times(2)).published(posts.capture());
+    assertEquals(List.of("p1", "p2"),
+        posts.getAllValues().get(0).stream().map(Post::getTitle).collect(Collectors.toList()));
+    assertEquals("p3", posts.getAllValues().get(1).get(0).getTitle());
+  }
+}
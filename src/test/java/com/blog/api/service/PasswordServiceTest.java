@@ -0,0 +1,147 @@
+package com.blog.api.service;
+
+import com.blog.api.commons.BCryptCalibrator;
+import com.blog.api.commons.CustomServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PasswordServiceTest {
+
+  @Test
+  @DisplayName("01 - Verifica se a senha codificada no pool é validada corretamente.")
+  void encodeAndMatches() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    PasswordService service = new PasswordService(new BCryptPasswordEncoder(4), calibrator(4), registry, 1, 4);
+
+    String encoded = service.encode("newUserPassword");
+
+    assertTrue(service.matches("newUserPassword", encoded));
+    assertFalse(service.matches("wrongPassword", encoded));
+    assertEquals(3, registry.get("bcrypt.duration").timers().stream()
+        .mapToLong(timer -> timer.count()).sum());
+
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se a requisição é rejeitada quando a fila do pool está cheia.")
+  void rejectsWhenQueueIsFull() throws Exception {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    PasswordEncoder encoder = mock(PasswordEncoder.class);
+    CountDownLatch release = new CountDownLatch(1);
+
+    when(encoder.encode(anyString())).thenAnswer(invocation -> {
+      release.await(10, TimeUnit.SECONDS);
+      return "encoded";
+    });
+
+    PasswordService service = new PasswordService(encoder, calibrator(4), registry, 1, 1);
+
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+    awaitGauge(registry, "bcrypt.active", 1);
+
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+    awaitGauge(registry, "bcrypt.queue.depth", 1);
+
+    CustomServiceUnavailableException thrown = assertThrows(
+      CustomServiceUnavailableException.class,
+      () -> service.encode("c"),
+      "Servidor ocupado. Tente novamente em instantes."
+    );
+
+    release.countDown();
+
+    assertTrue(thrown.getMessage().contains("Servidor ocupado."));
+    assertEquals("encoded", running.get(10, TimeUnit.SECONDS));
+    assertEquals("encoded", queued.get(10, TimeUnit.SECONDS));
+    assertEquals(1.0, registry.get("bcrypt.rejected").counter().count());
+
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se hashes com custo abaixo do configurado são recodificados em segundo plano.")
+  void rehashInBackground() throws Exception {
+    PasswordService service = new PasswordService(new BCryptPasswordEncoder(5), calibrator(5),
+        new SimpleMeterRegistry(), 1, 4);
+    CompletableFuture<String> rehashed = new CompletableFuture<>();
+
+    String oldHash = new BCryptPasswordEncoder(4).encode("newUserPassword");
+
+    assertTrue(service.needsRehash(oldHash));
+    assertFalse(service.needsRehash(service.encode("newUserPassword")));
+
+    service.rehashInBackground("newUserPassword", rehashed::complete);
+
+    String newHash = rehashed.get(10, TimeUnit.SECONDS);
+
+    assertEquals(5, BCryptCalibrator.cost(newHash));
+    assertTrue(service.matches("newUserPassword", newHash));
+
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se hashes com custo acima do configurado são mantidos.")
+  void keepsHigherCost() {
+    PasswordService service = new PasswordService(new BCryptPasswordEncoder(4), calibrator(4),
+        new SimpleMeterRegistry(), 1, 4);
+
+    // Instância com custo fixo menor que o calibrado pelas demais não rebaixa os hashes.
+    assertFalse(service.needsRehash(new BCryptPasswordEncoder(5).encode("newUserPassword")));
+
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("05 - Verifica se as senhas do lote são codificadas em paralelo mantendo a ordem.")
+  void encodeAll() {
+    PasswordService service = new PasswordService(new BCryptPasswordEncoder(4), calibrator(4),
+        new SimpleMeterRegistry(), 2, 2);
+    List<String> rawPasswords = List.of("first", "second", "third", "fourth", "fifth");
+
+    List<String> encoded = service.encodeAll(rawPasswords);
+
+    assertEquals(5, encoded.size());
+
+    for (int i = 0; i < rawPasswords.size(); i++) {
+      assertTrue(service.matches(rawPasswords.get(i), encoded.get(i)));
+    }
+
+    service.shutdown();
+  }
+
+  private BCryptCalibrator calibrator(int strength) {
+    BCryptCalibrator calibrator = mock(BCryptCalibrator.class);
+
+    when(calibrator.getStrength()).thenReturn(strength);
+
+    return calibrator;
+  }
+
+  private void awaitGauge(SimpleMeterRegistry registry, String name, double expected)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000;
+
+    while (registry.get(name).gauge().value() != expected
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.blog.api.service;
+
+import com.blog.api.cache.ResponseCache;
+import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomNotFoundException;
+import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.dto.PostDto;
+import com.blog.api.dto.PostPageDto;
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.model.Post;
+import com.blog.api.model.User;
+import com.blog.api.repository.PostRepository;
+import com.blog.api.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PostServiceTest {
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private ResponseCache responseCache;
+
+  @Mock
+  private TimelineService timelineService;
+
+  @InjectMocks
+  private PostService service;
+
+  private PostDto newPostDto() {
+    PostDto postDto = new PostDto();
+
+    postDto.setUserId(1);
+    postDto.setTitle("newPost");
+    postDto.setDescription("newPostDescription");
+    postDto.setPostDate("2022-11-14");
+
+    return postDto;
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se obteve sucesso na inserção de um novo post.")
+  void insertPost() {
+    PostDto postDto = newPostDto();
+    User user = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(user));
+    when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    Post post = service.addPost(postDto);
+
+    assertEquals("newPost", post.getTitle());
+    assertSame(user, post.getUser());
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se a exceção é lançada corretamente em caso de título não informado.")
+  void exceptionTitleIsEmpty() {
+    PostDto postDto = newPostDto();
+    postDto.setTitle("");
+
+    CustomBadRequestException thrown = assertThrows(
+      CustomBadRequestException.class,
+      () -> service.addPost(postDto),
+      "Informe o título."
+    );
+
+    assertTrue(thrown.getMessage().contains("Informe o título."));
+  }
+
+  @Test
+  @DisplayName("03 - Verifica inserção de post para usuário inexistente.")
+  void insertPostUserNotFound() {
+    CustomNotFoundException thrown = assertThrows(
+      CustomNotFoundException.class,
+      () -> service.addPost(newPostDto()),
+      "Usuário não encontrado."
+    );
+
+    assertTrue(thrown.getMessage().contains("Usuário não encontrado."));
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se a inserção em lote persiste todos os posts do usuário.")
+  void insertPostsInBatch() {
+    List<PostDto> posts = new ArrayList<>();
+    posts.add(newPostDto());
+    posts.add(newPostDto());
+
+    when(userRepository.existsById(1)).thenReturn(true);
+
+    String response = service.addPosts(1, posts);
+
+    assertEquals("2 posts cadastrados com sucesso.", response);
+    verify(entityManager, times(2)).persist(any(Post.class));
+  }
+
+  @Test
+  @DisplayName("05 - Verifica inserção em lote sem posts.")
+  void insertPostsEmpty() {
+    CustomBadRequestException thrown = assertThrows(
+      CustomBadRequestException.class,
+      () -> service.addPosts(1, new ArrayList<>()),
+      "Informe ao menos um post."
+    );
+
+    assertTrue(thrown.getMessage().contains("Informe ao menos um post."));
+    verify(entityManager, never()).persist(any());
+  }
+
+  @Test
+  @DisplayName("06 - Verifica busca por post inexistente.")
+  void postByIdNotFound() {
+    CustomNotFoundException thrown = assertThrows(
+      CustomNotFoundException.class,
+      () -> service.postById(0),
+      "Post não encontrado."
+    );
+
+    assertTrue(thrown.getMessage().contains("Post não encontrado."));
+  }
+
+  @Test
+  @DisplayName("07 - Verifica atualização de determinado post.")
+  void updatePost() {
+    Post post = new Post("oldPost", null, null, null, LocalDateTime.of(2022, 11, 13, 0, 0), null);
+    PostDto postDto = newPostDto();
+
+    when(postRepository.findById(1)).thenReturn(Optional.of(post));
+
+    Post updated = service.updatePost(1, postDto);
+
+    assertEquals("newPost", updated.getTitle());
+    assertEquals(LocalDateTime.of(2022, 11, 14, 0, 0), updated.getPostDate());
+  }
+
+  @Test
+  @DisplayName("08 - Verifica se a remoção de determinado post acontece com sucesso.")
+  void removePost() {
+    Post post = new Post("newPost", null, null, null, LocalDateTime.of(2022, 11, 14, 0, 0), null);
+
+    when(postRepository.findById(1)).thenReturn(Optional.of(post));
+
+    assertEquals("Post newPost removido.", service.removePost(1));
+    verify(postRepository).delete(post);
+    verify(timelineService).removed(1);
+  }
+
+  @Test
+  @DisplayName("09 - Verifica lançamento de exceção inesperada.")
+  void removePostUnexpectedException() {
+    when(postRepository.findById(1)).thenThrow(new RuntimeException());
+
+    CustomUnexpectedException thrown = assertThrows(
+      CustomUnexpectedException.class,
+      () -> service.removePost(1),
+      "Erro inesperado ao tentar remover determinado post."
+    );
+
+    assertTrue(thrown.getMessage().contains("Erro inesperado ao tentar remover determinado post."));
+  }
+
+  @Test
+  @DisplayName("10 - Verifica se a data do post em formato desconhecido é rejeitada.")
+  void exceptionInvalidPostDate() {
+    PostDto postDto = newPostDto();
+    postDto.setPostDate("14 de novembro");
+
+    CustomBadRequestException thrown = assertThrows(
+      CustomBadRequestException.class,
+      () -> service.addPost(postDto),
+      "Data do post inválida."
+    );
+
+    assertTrue(thrown.getMessage().contains("Data do post inválida."));
+    verify(postRepository, never()).save(any());
+  }
+
+  private PostResponseDto newPostResponse(Integer id, LocalDateTime postDate) {
+    return new PostResponseDto(id, 1, "post" + id, null, null, null, postDate);
+  }
+
+  @Test
+  @DisplayName("11 - Verifica se a página seguinte continua pelo cursor de data e id.")
+  void postsByUserSeek() {
+    LocalDateTime postDate = LocalDateTime.of(2022, 11, 14, 10, 0);
+
+    when(userRepository.existsById(1)).thenReturn(true);
+    when(postRepository.findLatestByUserId(1, PageRequest.of(0, 2)))
+        .thenReturn(List.of(newPostResponse(9, postDate), newPostResponse(7, postDate)));
+
+    PostPageDto first = service.postsByUser(1, null, 2);
+
+    when(postRepository.findByUserIdBefore(1, postDate, 7, PageRequest.of(0, 2)))
+        .thenReturn(List.of(newPostResponse(5, postDate.minusDays(1))));
+    when(postRepository.findUndatedByUserIdBefore(1, Integer.MAX_VALUE, PageRequest.of(0, 1)))
+        .thenReturn(List.of());
+
+    PostPageDto second = service.postsByUser(1, first.getNextCursor(), 2);
+
+    assertEquals(2, first.getPosts().size());
+    assertEquals(1, second.getPosts().size());
+    assertEquals(5, second.getPosts().get(0).getId());
+    assertNull(second.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("12 - Verifica se os posts sem data são listados depois dos posts com data.")
+  void postsByUserUndated() {
+    when(userRepository.existsById(1)).thenReturn(true);
+    when(postRepository.findLatestByUserId(1, PageRequest.of(0, 2)))
+        .thenReturn(List.of(newPostResponse(9, LocalDateTime.of(2022, 11, 14, 10, 0))));
+    when(postRepository.findUndatedByUserIdBefore(1, Integer.MAX_VALUE, PageRequest.of(0, 1)))
+        .thenReturn(List.of(newPostResponse(8, null)));
+
+    PostPageDto first = service.postsByUser(1, null, 2);
+
+    when(postRepository.findUndatedByUserIdBefore(1, 8, PageRequest.of(0, 2)))
+        .thenReturn(List.of(newPostResponse(3, null)));
+
+    PostPageDto second = service.postsByUser(1, first.getNextCursor(), 2);
+
+    assertEquals(8, first.getPosts().get(1).getId());
+    assertEquals(3, second.getPosts().get(0).getId());
+    verify(postRepository, never()).findByUserIdBefore(anyInt(), any(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("13 - Verifica se o cursor inválido e o usuário inexistente são rejeitados.")
+  void postsByUserInvalid() {
+    assertThrows(CustomBadRequestException.class, () -> service.postsByUser(1, "x", 2));
+    assertThrows(CustomBadRequestException.class, () -> service.postsByUser(1, null, 0));
+    assertThrows(CustomNotFoundException.class, () -> service.postsByUser(1, null, 2));
+  }
+
+  @Test
+  @DisplayName("14 - Verifica se a data do post fora do intervalo da coluna é rejeitada.")
+  void exceptionPostDateOutOfRange() {
+    PostDto postDto = newPostDto();
+    postDto.setPostDate("14/11/0999");
+
+    CustomBadRequestException thrown = assertThrows(
+      CustomBadRequestException.class,
+      () -> service.addPost(postDto),
+      "Data do post inválida."
+    );
+
+    assertTrue(thrown.getMessage().contains("Data do post inválida."));
+    verify(postRepository, never()).save(any());
+  }
+}
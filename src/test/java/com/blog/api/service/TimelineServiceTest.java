@@ -0,0 +1,147 @@
+package com.blog.api.service;
+
+import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.dto.PostPageDto;
+import com.blog.api.dto.PostResponseDto;
+import com.blog.api.model.Post;
+import com.blog.api.model.User;
+import com.blog.api.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TimelineServiceTest {
+
+  private TimelineService newTimeline(int capacity, List<PostResponseDto> recent) {
+    PostRepository postRepository = mock(PostRepository.class);
+
+    when(postRepository.findRecent(any())).thenReturn(recent);
+
+    TimelineService timeline = new TimelineService(postRepository, new SimpleMeterRegistry(),
+        capacity);
+    timeline.warmUp();
+
+    return timeline;
+  }
+
+  private Post newPost(Integer id, Integer userId) {
+    User user = new User("user" + userId, "user" + userId + "@email.com", "password");
+    ReflectionTestUtils.setField(user, "id", userId);
+
+    Post post = new Post("post" + id, null, null, null, null, user);
+    ReflectionTestUtils.setField(post, "id", id);
+
+    return post;
+  }
+
+  private List<Integer> ids(PostPageDto page) {
+    return page.getPosts().stream().map(PostResponseDto::getId).collect(Collectors.toList());
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se a carga inicial e os novos posts saem do mais novo para o mais antigo.")
+  void warmUpAndPaging() {
+    TimelineService timeline = newTimeline(8, List.of(
+        new PostResponseDto(3, 1, "post3", null, null, null, null),
+        new PostResponseDto(2, 1, "post2", null, null, null, null),
+        new PostResponseDto(1, 1, "post1", null, null, null, null)));
+
+    timeline.published(List.of(newPost(4, 1), newPost(5, 2)));
+
+    PostPageDto first = timeline.latest(null, 3);
+    PostPageDto second = timeline.latest(first.getNextCursor(), 3);
+
+    assertEquals(List.of(5, 4, 3), ids(first));
+    assertEquals(List.of(2, 1), ids(second));
+    assertEquals(2, first.getPosts().get(0).getUserId());
+    assertNull(second.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se o anel mantém apenas os posts mais recentes dentro da capacidade.")
+  void boundedWindow() {
+    TimelineService timeline = newTimeline(4, List.of());
+
+    timeline.published(IntStream.rangeClosed(1, 10).mapToObj(id -> newPost(id, 1))
+        .collect(Collectors.toList()));
+
+    PostPageDto page = timeline.latest(null, 50);
+
+    assertEquals(List.of(10, 9, 8, 7), ids(page));
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se edições e remoções de posts e usuários se refletem na timeline.")
+  void updatesAndRemovals() {
+    TimelineService timeline = newTimeline(8, List.of());
+
+    timeline.published(List.of(newPost(1, 1), newPost(2, 2), newPost(3, 1), newPost(4, 3)));
+
+    Post edited = newPost(4, 3);
+    edited.setTitle("edited");
+
+    timeline.updated(edited);
+    timeline.removed(2);
+    timeline.userRemoved(1);
+
+    PostPageDto page = timeline.latest(null, 10);
+
+    assertEquals(List.of(4), ids(page));
+    assertEquals("edited", page.getPosts().get(0).getTitle());
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se publicações concorrentes não perdem nem duplicam posts.")
+  void concurrentPublishers() throws InterruptedException {
+    TimelineService timeline = newTimeline(4096, List.of());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    for (int thread = 0; thread < 4; thread++) {
+      int offset = thread * 1000;
+      executor.execute(() -> IntStream.range(0, 1000)
+          .forEach(i -> timeline.published(List.of(newPost(offset + i, 1)))));
+    }
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    Set<Integer> seen = new HashSet<>();
+    PostPageDto page = timeline.latest(null, 200);
+    seen.addAll(ids(page));
+
+    while (page.getNextCursor() != null) {
+      page = timeline.latest(page.getNextCursor(), 200);
+      seen.addAll(ids(page));
+    }
+
+    assertEquals(4000, seen.size());
+  }
+
+  @Test
+  @DisplayName("05 - Verifica se o cursor inválido é rejeitado.")
+  void invalidCursor() {
+    TimelineService timeline = newTimeline(8, List.of());
+
+    assertThrows(CustomBadRequestException.class, () -> timeline.latest("abc", 10));
+    assertThrows(CustomBadRequestException.class, () -> timeline.latest(null, 0));
+  }
+}
@@ -0,0 +1,61 @@
+package com.blog.api.service;
+
+import com.blog.api.dto.TokenDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenServiceTest {
+
+  @Test
+  @DisplayName("01 - Verifica se o token emitido é validado e identifica o usuário.")
+  void issueAndVerify() {
+    TokenService service = new TokenService(900);
+
+    TokenDto token = service.issue(42);
+
+    assertEquals(Optional.of(42), service.verify(token.getToken()));
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se um token adulterado é rejeitado.")
+  void tamperedToken() {
+    TokenService service = new TokenService(900);
+    TokenService otherService = new TokenService(900);
+
+    String token = service.issue(42).getToken();
+    String forged = otherService.issue(1).getToken();
+    String mixed = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+    assertTrue(service.verify(forged).isEmpty());
+    assertTrue(service.verify(mixed).isEmpty());
+    assertTrue(service.verify("invalid").isEmpty());
+    assertTrue(service.verify("a.b").isEmpty());
+  }
+
+  @Test
+  @DisplayName("03 - Verifica se um token expirado é rejeitado.")
+  void expiredToken() {
+    TokenService service = new TokenService(0);
+
+    assertTrue(service.verify(service.issue(42).getToken()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("04 - Verifica se tokens assinados pela chave anterior continuam válidos após uma rotação.")
+  void keyRotation() {
+    TokenService service = new TokenService(900);
+
+    String token = service.issue(42).getToken();
+
+    service.rotateKeys();
+    assertEquals(Optional.of(42), service.verify(token));
+
+    service.rotateKeys();
+    assertTrue(service.verify(token).isEmpty());
+  }
+}
@@ -0,0 +1,63 @@
+package com.blog.api.service;
+
+import com.blog.api.repository.PostRepository;
+import com.blog.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserPurgeServiceTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private PostRepository postRepository;
+
+  private UserPurgeService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new UserPurgeService(userRepository, postRepository, new SimpleMeterRegistry(),
+        2, 10);
+  }
+
+  @Test
+  @DisplayName("01 - Verifica se os posts são apagados em blocos antes do usuário.")
+  void purgeInChunks() {
+    when(userRepository.findDeletedIds(10)).thenReturn(List.of(1));
+    when(postRepository.deleteChunkByUserId(1, 2)).thenReturn(2, 2, 1);
+    when(userRepository.purgeDeleted(1)).thenReturn(1);
+
+    service.purgeDeleted();
+
+    verify(postRepository, times(3)).deleteChunkByUserId(1, 2);
+    verify(userRepository).purgeDeleted(1);
+  }
+
+  @Test
+  @DisplayName("02 - Verifica se a falha em um usuário não interrompe a remoção dos demais.")
+  void purgeContinuesAfterFailure() {
+    when(userRepository.findDeletedIds(10)).thenReturn(List.of(1, 2));
+    when(postRepository.deleteChunkByUserId(1, 2)).thenThrow(new IllegalStateException());
+    when(postRepository.deleteChunkByUserId(2, 2)).thenReturn(0);
+    when(userRepository.purgeDeleted(2)).thenReturn(1);
+
+    service.purgeDeleted();
+
+    verify(userRepository, never()).purgeDeleted(1);
+    verify(userRepository).purgeDeleted(2);
+  }
+}
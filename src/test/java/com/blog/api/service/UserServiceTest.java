@@ -1,25 +1,50 @@
 package com.blog.api.service;
 
+import com.blog.api.cache.EmailBloomFilter;
+import com.blog.api.cache.ResponseCache;
+import com.blog.api.cache.SingleFlight;
+import com.blog.api.cache.UserCache;
 import com.blog.api.commons.CustomBadRequestException;
+import com.blog.api.commons.CustomConflictException;
 import com.blog.api.commons.CustomNotFoundException;
 import com.blog.api.commons.CustomUnexpectedException;
+import com.blog.api.dto.PostResponseDto;
 import com.blog.api.dto.UserDto;
+import com.blog.api.dto.UserPageDto;
+import com.blog.api.dto.UserResponseDto;
 import com.blog.api.model.User;
+import com.blog.api.repository.PostRepository;
 import com.blog.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +53,25 @@ public class UserServiceTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private EmailBloomFilter emailFilter;
+
+  @Mock
+  private UserCache userCache;
+
+  @Mock
+  private ResponseCache responseCache;
+
+  @Mock
+  private TimelineService timelineService;
+
+  @Spy
+  private SingleFlight<Integer, Optional<UserResponseDto>> userLoads =
+      new SingleFlight<>(new SimpleMeterRegistry(), "users");
+
   @InjectMocks
   private UserService service;
 
@@ -90,6 +134,7 @@ public class UserServiceTest {
     userDto.setEmail("newUserEmail");
     userDto.setPassword("newUserPassword");
 
+    when(emailFilter.mightContain(userDto.getEmail())).thenReturn(true);
     when(userRepository.existsByEmail(userDto.getEmail())).thenReturn(true);
 
     CustomBadRequestException thrown = assertThrows(
@@ -130,7 +175,7 @@ public class UserServiceTest {
 
     User newUser = new User("newUser", "newUserEmail", "newUserPassword");
 
-    when(userRepository.save(newUser)).thenThrow(new CustomUnexpectedException("Erro inesperado ao tentar inserir um novo usuário."));
+    when(userRepository.saveAndFlush(newUser)).thenThrow(new CustomUnexpectedException("Erro inesperado ao tentar inserir um novo usuário."));
 
     CustomUnexpectedException thrown = assertThrows(
       CustomUnexpectedException.class,
@@ -144,14 +189,13 @@ public class UserServiceTest {
   @Test
   @DisplayName("07 - Verifica se o método listUsers retorna uma lista de User.")
   void listUsers() {
-    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
-
-    List<User> usersList = new ArrayList<>();
-    usersList.add(newUser);
+    List<UserResponseDto> usersList = new ArrayList<>();
+    usersList.add(new UserResponseDto(1, "newUser", "newUserEmail"));
 
-    when(userRepository.findAll()).thenReturn(usersList);
+    when(userRepository.findPageAfter(0, PageRequest.of(0, UserService.DEFAULT_PAGE_SIZE)))
+      .thenReturn(usersList);
 
-    assertEquals(1, service.listUsers().size());
+    assertEquals(1, service.listUsers(null, null, false).getUsers().size());
   }
 
   @Test
@@ -159,7 +203,7 @@ public class UserServiceTest {
   void exceptionListIsEmpty() {
     CustomNotFoundException thrown = assertThrows(
       CustomNotFoundException.class,
-      () -> service.listUsers(),
+      () -> service.listUsers(null, null, false),
       "Nenhum usuário foi encontrado."
     );
 
@@ -169,11 +213,12 @@ public class UserServiceTest {
   @Test
   @DisplayName("09 - Verifica lançamento de exceção inesperada.")
   void ListUserUnexpectedException() {
-    when(userRepository.findAll()).thenThrow(new CustomUnexpectedException("Erro inesperado ao listar usuários cadastrados."));
+    when(userRepository.findPageAfter(0, PageRequest.of(0, UserService.DEFAULT_PAGE_SIZE)))
+      .thenThrow(new CustomUnexpectedException("Erro inesperado ao listar usuários cadastrados."));
 
     CustomUnexpectedException thrown = assertThrows(
       CustomUnexpectedException.class,
-      () -> service.listUsers(),
+      () -> service.listUsers(null, null, false),
       "Erro inesperado ao listar usuários cadastrados."
     );
 
@@ -307,9 +352,10 @@ public class UserServiceTest {
     userDto.setEmail("newUserEmail");
     userDto.setPassword("newUserPassword");
 
-    User newUser = new User(userDto.getUsername(), userDto.getEmail(), userDto.getPassword());
+    User newUser = new User(userDto.getUsername(), "previousEmail", userDto.getPassword());
 
     when(userRepository.findById(newUser.getId())).thenReturn(Optional.of(newUser));
+    when(emailFilter.mightContain(userDto.getEmail())).thenReturn(true);
     when(userRepository.existsByEmail(userDto.getEmail())).thenReturn(true);
 
     CustomBadRequestException thrown = assertThrows(
@@ -377,10 +423,12 @@ public class UserServiceTest {
     User newUser = new User(userDto.getUsername(), userDto.getEmail(), userDto.getPassword());
 
     when(userRepository.findById(newUser.getId())).thenReturn(Optional.of(newUser));
+    when(userRepository.markDeleted(newUser.getId())).thenReturn(1);
 
     String removeResponse = service.removeUser(newUser.getId());
 
     assertEquals("Usuário newUser removido.", removeResponse);
+    verify(userRepository, never()).deleteById(any());
   }
 
   @Test
@@ -414,4 +462,290 @@ public class UserServiceTest {
 
     assertTrue(thrown.getMessage().contains("Erro inesperado ao tentar remover determinado usuário."));
   }
+
+  @Test
+  @DisplayName("23 - Verifica se o cursor da próxima página é retornado quando a página está cheia.")
+  void listUsersNextCursor() {
+    List<UserResponseDto> usersList = new ArrayList<>();
+    usersList.add(new UserResponseDto(11, "firstUser", "firstUserEmail"));
+    usersList.add(new UserResponseDto(12, "secondUser", "secondUserEmail"));
+
+    when(userRepository.findPageAfter(10, PageRequest.of(0, 2))).thenReturn(usersList);
+    when(userRepository.findPageAfter(10, PageRequest.of(0, 3))).thenReturn(usersList);
+
+    assertEquals(12, service.listUsers(10, 2, false).getNextCursor());
+    assertNull(service.listUsers(10, 3, false).getNextCursor());
+  }
+
+  @Test
+  @DisplayName("24 - Verifica se o limite informado é restringido ao tamanho máximo de página.")
+  void listUsersLimitIsCapped() {
+    when(userRepository.findPageAfter(0, PageRequest.of(0, UserService.MAX_PAGE_SIZE)))
+      .thenReturn(new ArrayList<>());
+
+    assertThrows(CustomNotFoundException.class, () -> service.listUsers(null, 100000, false));
+  }
+
+  @Test
+  @DisplayName("25 - Verifica se a exceção é lançada corretamente em caso de limite inválido.")
+  void listUsersInvalidLimit() {
+    CustomBadRequestException thrown = assertThrows(
+      CustomBadRequestException.class,
+      () -> service.listUsers(null, 0, false),
+      "O limite deve ser maior que zero."
+    );
+
+    assertTrue(thrown.getMessage().contains("O limite deve ser maior que zero."));
+  }
+
+  @Test
+  @DisplayName("26 - Verifica se os posts são anexados aos usuários da página com uma única consulta.")
+  void listUsersIncludePosts() {
+    List<UserResponseDto> usersList = new ArrayList<>();
+    usersList.add(new UserResponseDto(1, "firstUser", "firstUserEmail"));
+    usersList.add(new UserResponseDto(2, "secondUser", "secondUserEmail"));
+
+    List<PostResponseDto> postsList = new ArrayList<>();
+    postsList.add(new PostResponseDto(10, 2, "title", null, null, null,
+        LocalDateTime.of(2022, 11, 14, 0, 0)));
+
+    when(userRepository.findPageAfter(0, PageRequest.of(0, UserService.DEFAULT_PAGE_SIZE)))
+      .thenReturn(usersList);
+    when(postRepository.findByUserIds(Set.of(1, 2))).thenReturn(postsList);
+
+    UserPageDto page = service.listUsers(null, null, true);
+
+    assertTrue(page.getUsers().get(0).getPosts().isEmpty());
+    assertEquals(10, page.getUsers().get(1).getPosts().get(0).getId());
+  }
+
+  @Test
+  @DisplayName("27 - Verifica se os posts não são consultados quando não solicitados.")
+  void userDetailsWithoutPosts() {
+    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(newUser));
+
+    UserResponseDto user = service.userDetails(1, false);
+
+    assertEquals("newUserEmail", user.getEmail());
+    assertNull(user.getPosts());
+    verify(postRepository, never()).findByUserIds(any());
+  }
+
+  @Test
+  @DisplayName("28 - Verifica se o banco não é consultado quando o filtro garante que o email é novo.")
+  void emailFilterDefiniteMiss() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("newUser");
+    userDto.setEmail("newUserEmail");
+    userDto.setPassword("newUserPassword");
+
+    service.addUser(userDto);
+
+    verify(userRepository, never()).existsByEmail(any());
+    verify(emailFilter).put("newUserEmail");
+    verify(responseCache).invalidate();
+  }
+
+  @Test
+  @DisplayName("29 - Verifica se um falso positivo do filtro é contabilizado.")
+  void emailFilterFalsePositive() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("newUser");
+    userDto.setEmail("newUserEmail");
+    userDto.setPassword("newUserPassword");
+
+    when(emailFilter.mightContain("newUserEmail")).thenReturn(true);
+
+    service.addUser(userDto);
+
+    verify(userRepository).existsByEmail("newUserEmail");
+    verify(emailFilter).recordFalsePositive();
+  }
+
+  @Test
+  @DisplayName("30 - Verifica se a busca por id é servida pelo cache sem consultar o banco.")
+  void userByIdFromCache() {
+    UserResponseDto newUser = new UserResponseDto(1, "newUser", "newUserEmail", 0);
+
+    when(userCache.get(1)).thenReturn(Optional.of(newUser));
+
+    assertEquals("newUserEmail", service.userById(1).getEmail());
+    verify(userRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("31 - Verifica se o usuário carregado do banco é armazenado no cache.")
+  void userByIdPopulatesCache() {
+    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(newUser));
+    when(userCache.generation()).thenReturn(4L);
+
+    service.userById(1);
+
+    verify(userCache).put(argThat(user -> "newUserEmail".equals(user.getEmail())), eq(4L));
+  }
+
+  @Test
+  @DisplayName("32 - Verifica se a atualização e a remoção invalidam o cache.")
+  void updateAndRemoveInvalidateCache() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("newUser");
+    userDto.setEmail("otherEmail");
+    userDto.setPassword("newUserPassword");
+
+    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(newUser));
+    when(userRepository.markDeleted(1)).thenReturn(1);
+
+    service.updateUser(1, userDto);
+    service.removeUser(1);
+
+    verify(userCache, times(2)).invalidate(1);
+    verify(responseCache, times(2)).invalidate();
+  }
+
+  @Test
+  @DisplayName("33 - Verifica se a atualização parcial altera apenas os campos informados.")
+  void patchUser() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("patchedUser");
+
+    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(newUser));
+
+    User patched = service.patchUser(1, userDto);
+
+    assertEquals("patchedUser", patched.getUsername());
+    assertEquals("newUserEmail", patched.getEmail());
+    assertEquals("newUserPassword", patched.getPassword());
+    verify(userRepository).saveAndFlush(newUser);
+    verify(emailFilter, never()).mightContain(any());
+    verify(userCache).invalidate(1);
+  }
+
+  @Test
+  @DisplayName("34 - Verifica se o email inalterado não é validado novamente.")
+  void patchUserSameEmail() {
+    UserDto userDto = new UserDto();
+
+    userDto.setEmail("newUserEmail");
+
+    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(newUser));
+
+    service.patchUser(1, userDto);
+
+    verify(userRepository, never()).existsByEmail(any());
+    verify(emailFilter, never()).remove(any());
+  }
+
+  @Test
+  @DisplayName("35 - Verifica se a atualização parcial com versão desatualizada é rejeitada.")
+  void patchUserStaleVersion() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("patchedUser");
+    userDto.setVersion(3);
+
+    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(newUser));
+
+    CustomConflictException thrown = assertThrows(
+      CustomConflictException.class,
+      () -> service.patchUser(1, userDto),
+      "O registro foi alterado por outra requisição."
+    );
+
+    assertTrue(thrown.getMessage().contains("O registro foi alterado por outra requisição."));
+    verify(userRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  @DisplayName("36 - Verifica se a alteração concorrente detectada pela versão gera conflito.")
+  void patchUserOptimisticLock() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("patchedUser");
+
+    User newUser = new User("newUser", "newUserEmail", "newUserPassword");
+
+    when(userRepository.findById(1)).thenReturn(Optional.of(newUser));
+    when(userRepository.saveAndFlush(newUser))
+        .thenThrow(new ObjectOptimisticLockingFailureException(User.class, 1));
+
+    assertThrows(CustomConflictException.class, () -> service.patchUser(1, userDto));
+    verify(userCache, never()).invalidate(1);
+  }
+
+  @Test
+  @DisplayName("37 - Verifica se a versão do usuário é obtida sem carregar a entidade.")
+  void userVersion() {
+    when(userCache.get(1)).thenReturn(Optional.empty());
+    when(userRepository.findVersionById(1)).thenReturn(Optional.of(3));
+
+    assertEquals(Optional.of(3), service.userVersion(1));
+    verify(userRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("38 - Verifica se a versão do usuário é servida pelo cache.")
+  void userVersionFromCache() {
+    UserResponseDto newUser = new UserResponseDto(1, "newUser", "newUserEmail", 2);
+
+    when(userCache.get(1)).thenReturn(Optional.of(newUser));
+
+    assertEquals(Optional.of(2), service.userVersion(1));
+    verify(userRepository, never()).findVersionById(any());
+  }
+
+  @Test
+  @DisplayName("39 - Verifica se o email duplicado barrado pelo índice único gera erro de validação.")
+  void addUserDuplicatedEmailIndex() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("newUser");
+    userDto.setEmail("newUserEmail");
+    userDto.setPassword("newUserPassword");
+
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenThrow(new DataIntegrityViolationException("Duplicate entry",
+            new ConstraintViolationException("Duplicate entry", new SQLException(),
+                "tb_user.ux_user_active_email")));
+
+    CustomBadRequestException thrown = assertThrows(CustomBadRequestException.class,
+        () -> service.addUser(userDto));
+
+    assertEquals("Existe um usuário cadastrado com este email.", thrown.getMessage());
+    verify(emailFilter, never()).put(any());
+  }
+
+  @Test
+  @DisplayName("40 - Verifica se outras violações de integridade geram erro inesperado.")
+  void addUserOtherIntegrityViolation() {
+    UserDto userDto = new UserDto();
+
+    userDto.setUsername("newUser");
+    userDto.setEmail("newUserEmail");
+    userDto.setPassword("newUserPassword");
+
+    when(userRepository.saveAndFlush(any(User.class)))
+        .thenThrow(new DataIntegrityViolationException("Data too long",
+            new ConstraintViolationException("Data too long", new SQLException(), null)));
+
+    CustomUnexpectedException thrown = assertThrows(CustomUnexpectedException.class,
+        () -> service.addUser(userDto));
+
+    assertEquals("Erro inesperado ao tentar inserir um novo usuário.", thrown.getMessage());
+  }
 }
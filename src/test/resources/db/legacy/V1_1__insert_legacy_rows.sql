@@ -0,0 +1,6 @@
+-- Linhas criadas antes da tb_sequence existir (ids vindos do auto_increment)
+insert into tb_user (id, username, email, password) values
+    (1, 'ana', 'ana@x', 'p'), (5, 'bob', 'bob@x', 'p'), (42, 'caio', 'caio@x', 'p');
+
+insert into tb_post (id, title, post_date, user_id) values
+    (7, 'p1', '2022-11-14', 1), (30, 'p2', '2022-11-15', 42);